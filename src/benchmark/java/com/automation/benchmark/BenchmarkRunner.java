@@ -0,0 +1,71 @@
+package com.automation.benchmark;
+
+import com.automation.exceptions.FrameworkException;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Benchmark Runner - Runs the driver benchmarks and writes JMH JSON results labelled with the framework version
+ * Usage: mvn -Pbenchmark test-compile exec:exec [-Dbenchmark.browsers=chrome,firefox] [-Dbenchmark.headless=true]
+ * [-Dbenchmark.include=WaitAllocationBenchmark] [-Dbenchmark.profilers=gc]
+ * Program arguments, when given, are benchmark name patterns that replace benchmark.include.
+ */
+public class BenchmarkRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkRunner.class);
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private BenchmarkRunner() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String label = System.getProperty("benchmark.label", "snapshot");
+        Path outputDir = Paths.get(System.getProperty("benchmark.output", "target/benchmarks"));
+        try {
+            Files.createDirectories(outputDir);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to create benchmark output directory: " + outputDir, e);
+        }
+        Path resultFile = outputDir.resolve(String.format("driver-benchmarks-%s-%s.json",
+                label, LocalDateTime.now().format(FILE_DATE_FORMAT)));
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .param("browser", split(System.getProperty("benchmark.browsers", "chrome")))
+                .param("headless", split(System.getProperty("benchmark.headless", "true")))
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString());
+        String[] includes = args.length > 0 ? args : split(System.getProperty("benchmark.include",
+                DriverLifecycleBenchmark.class.getSimpleName() + "," + DriverCommandBenchmark.class.getSimpleName()));
+        for (String pattern : includes) {
+            options.include(pattern);
+        }
+        String profilers = System.getProperty("benchmark.profilers", "");
+        if (!profilers.isBlank()) {
+            for (String profiler : split(profilers)) {
+                options.addProfiler(profiler);
+            }
+        }
+
+        log.info("Running driver benchmarks for {} - results: {}", label, resultFile);
+        new Runner(options.build()).run();
+        log.info("Benchmark results written to {}", resultFile);
+    }
+
+    private static String[] split(String values) {
+        return values.trim().split("\\s*,\\s*");
+    }
+}
@@ -0,0 +1,61 @@
+package com.automation.benchmark;
+
+import com.automation.exceptions.FrameworkException;
+import com.automation.stubs.StubServer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Browser State - Browser/headless parameters and the local static fixture page shared by a benchmark trial
+ * Parameters are applied as system properties so DriverFactory picks them up through ConfigManager
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    private static final String FIXTURE_RESOURCE = "/benchmark/fixture.html";
+
+    @Param({"chrome"})
+    public String browser;
+
+    @Param({"true"})
+    public String headless;
+
+    private StubServer fixtureServer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("browser", browser);
+        System.setProperty("headless", headless);
+        fixtureServer = new StubServer().stub("/", 200, "text/html; charset=utf-8", readFixture());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (fixtureServer != null) {
+            fixtureServer.close();
+        }
+    }
+
+    public String getFixtureUrl() {
+        return fixtureServer.getBaseUrl() + "/fixture.html";
+    }
+
+    private static String readFixture() {
+        try (InputStream in = BrowserState.class.getResourceAsStream(FIXTURE_RESOURCE)) {
+            if (in == null) {
+                throw new FrameworkException("Benchmark fixture not found on classpath: " + FIXTURE_RESOURCE);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to read benchmark fixture", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.automation.benchmark;
+
+import com.automation.driver.DriverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver Command Benchmark - Per-command latency distribution against a live session on the fixture page
+ * One session is reused for the whole trial so only the command round trip is measured
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class DriverCommandBenchmark {
+
+    private static final By SUBMIT = By.id("submit");
+
+    private WebDriver driver;
+    private WebElement submit;
+
+    @Setup(Level.Trial)
+    public void open(BrowserState browser) {
+        driver = DriverFactory.createDriver();
+        driver.get(browser.getFixtureUrl());
+        submit = driver.findElement(SUBMIT);
+    }
+
+    @TearDown(Level.Trial)
+    public void quit() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @Benchmark
+    public WebElement findElement() {
+        return driver.findElement(SUBMIT);
+    }
+
+    @Benchmark
+    public void click() {
+        submit.click();
+    }
+
+    @Benchmark
+    public Object executeScript() {
+        return ((JavascriptExecutor) driver).executeScript("return document.title;");
+    }
+}
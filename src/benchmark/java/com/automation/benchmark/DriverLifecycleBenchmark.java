@@ -0,0 +1,78 @@
+package com.automation.benchmark;
+
+import com.automation.driver.DriverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver Lifecycle Benchmark - Single-shot latency of session creation, first navigation and quit
+ * Each invocation is a cold operation, so timings are collected one shot at a time rather than in a loop
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DriverLifecycleBenchmark {
+
+    /**
+     * Holds a session created during the measured call and quits it afterwards
+     */
+    @State(Scope.Thread)
+    public static class SessionSlot {
+
+        WebDriver driver;
+
+        @TearDown(Level.Invocation)
+        public void quit() {
+            if (driver != null) {
+                driver.quit();
+                driver = null;
+            }
+        }
+    }
+
+    /**
+     * A session opened before the measured call
+     */
+    @State(Scope.Thread)
+    public static class OpenSession extends SessionSlot {
+
+        @Setup(Level.Invocation)
+        public void open(BrowserState browser) {
+            // Depending on BrowserState makes JMH apply the browser properties first
+            driver = DriverFactory.createDriver();
+        }
+    }
+
+    @Benchmark
+    public WebDriver createDriver(BrowserState browser, SessionSlot slot) {
+        slot.driver = DriverFactory.createDriver();
+        return slot.driver;
+    }
+
+    @Benchmark
+    public String firstNavigation(BrowserState browser, OpenSession session) {
+        session.driver.get(browser.getFixtureUrl());
+        return session.driver.getTitle();
+    }
+
+    @Benchmark
+    public void quit(OpenSession session) {
+        session.driver.quit();
+        session.driver = null;
+    }
+}
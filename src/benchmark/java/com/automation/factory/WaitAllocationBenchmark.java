@@ -0,0 +1,72 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import com.automation.driver.DriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Wait Allocation Benchmark - Cost of obtaining a wait per interaction versus reusing the thread's cached wait
+ * Uses a no-op driver and an already satisfied condition so only the wait layer overhead is measured.
+ * Run with -Dbenchmark.include=WaitAllocationBenchmark -Dbenchmark.profilers=gc to see allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Thread)
+public class WaitAllocationBenchmark {
+
+    private static final Function<WebDriver, Boolean> SATISFIED = driver -> Boolean.TRUE;
+    private static final String KEY = "By.id: benchmark";
+
+    @Setup(Level.Trial)
+    public void bindDriver() {
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+        DriverManager.setDriver(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void unbindDriver() {
+        WaitContext.invalidate();
+    }
+
+    /**
+     * A new wait with configuration read on every interaction
+     */
+    @Benchmark
+    public Boolean perCallWait() {
+        ConfigManager config = ConfigManager.getInstance();
+        return AdaptivePoller.newWait(DriverManager.getDriver(), Duration.ofSeconds(config.getExplicitWait()), KEY)
+                .until(SATISFIED);
+    }
+
+    /**
+     * The thread's cached wait, as used by ExplicitWaitFactory
+     */
+    @Benchmark
+    public Boolean cachedWait() {
+        WaitContext context = WaitContext.get();
+        return context.pollingWait(context.getExplicitWaitSeconds()).until(KEY, SATISFIED);
+    }
+}
@@ -2,113 +2,166 @@ package com.automation.api;
 
 import com.automation.config.ConfigManager;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import org.apache.http.impl.client.DefaultHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * API Client - RestAssured wrapper for API testing
+ * Immutable and thread-safe: the base spec (base URI, headers, auth, timeouts) is built once and every request
+ * starts from a copy of it. The with* methods return a new client and leave this one unchanged, and nothing is
+ * written to RestAssured's static defaults, so any number of clients can be used from any number of threads.
+ * Connections come from the keep-alive pool shared by all clients (see ApiConnectionPool); exchanges are logged
+ * as configured by api.log.mode (see ApiLoggingFilter).
  */
 public class ApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(ApiClient.class);
 
-    private final RequestSpecification requestSpec;
+    private final RequestSpecification baseSpec;
 
     public ApiClient() {
-        String baseUrl = ConfigManager.getInstance().getApiBaseUrl();
-        RestAssured.baseURI = baseUrl;
+        this(ConfigManager.getInstance().getApiBaseUrl());
+    }
 
-        this.requestSpec = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .log().all();
+    public ApiClient(String baseUrl) {
+        ConfigManager config = ConfigManager.getInstance();
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setConfig(timeouts(Duration.ofSeconds(config.getApiConnectTimeout()),
+                        Duration.ofSeconds(config.getApiReadTimeout())))
+                .addFilter(ApiLoggingFilter.getInstance());
+        if (ApiConnectionPool.isEnabled()) {
+            builder.addFilter(ApiConnectionPool.releaseFilter());
+        }
+        this.baseSpec = builder.build();
 
         log.info("API Client initialized with base URL: {}", baseUrl);
     }
 
-    public ApiClient(String baseUrl) {
-        RestAssured.baseURI = baseUrl;
+    private ApiClient(RequestSpecification baseSpec) {
+        this.baseSpec = baseSpec;
+    }
 
-        this.requestSpec = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .log().all();
+    /**
+     * A copy of this client with the customization applied on top of its base spec.
+     */
+    private ApiClient derive(Consumer<RequestSpecBuilder> customization) {
+        RequestSpecBuilder builder = new RequestSpecBuilder().addRequestSpecification(baseSpec);
+        customization.accept(builder);
+        return new ApiClient(builder.build());
+    }
 
-        log.info("API Client initialized with base URL: {}", baseUrl);
+    /**
+     * HTTP settings: timeouts, and the shared connection pool unless it is disabled. Waiting for a pooled
+     * connection is bounded by the connect timeout. Either way an interrupted request is not retried.
+     */
+    private static RestAssuredConfig timeouts(Duration connect, Duration read) {
+        HttpClientConfig httpClient = HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", (int) connect.toMillis())
+                .setParam("http.socket.timeout", (int) read.toMillis())
+                .setParam("http.conn-manager.timeout", connect.toMillis());
+        httpClient = httpClient.httpClientFactory(ApiConnectionPool.isEnabled()
+                ? ApiConnectionPool.httpClientFactory()
+                : ApiClient::newUnpooledHttpClient);
+        return RestAssuredConfig.config().httpClient(httpClient);
+    }
+
+    @SuppressWarnings("deprecation") // RestAssured's own default client, as in ApiConnectionPool
+    private static DefaultHttpClient newUnpooledHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient();
+        client.setHttpRequestRetryHandler(InterruptAwareRetryHandler.INSTANCE);
+        return client;
     }
 
     public ApiClient withHeader(String key, String value) {
-        requestSpec.header(key, value);
-        return this;
+        return derive(builder -> builder.addHeader(key, value));
     }
 
     public ApiClient withHeaders(Map<String, String> headers) {
-        requestSpec.headers(headers);
-        return this;
+        return derive(builder -> builder.addHeaders(headers));
     }
 
     public ApiClient withAuth(String token) {
-        requestSpec.header("Authorization", "Bearer " + token);
-        return this;
+        return withHeader("Authorization", "Bearer " + token);
     }
 
     public ApiClient withBasicAuth(String username, String password) {
-        requestSpec.auth().basic(username, password);
-        return this;
+        return derive(builder -> builder.setAuth(RestAssured.basic(username, password)));
     }
 
     public ApiClient withQueryParam(String key, String value) {
-        requestSpec.queryParam(key, value);
-        return this;
+        return derive(builder -> builder.addQueryParam(key, value));
     }
 
     public ApiClient withQueryParams(Map<String, String> params) {
-        requestSpec.queryParams(params);
-        return this;
+        return derive(builder -> builder.addQueryParams(params));
     }
 
     public ApiClient withPathParam(String key, String value) {
-        requestSpec.pathParam(key, value);
-        return this;
+        return derive(builder -> builder.addPathParam(key, value));
+    }
+
+    public ApiClient withTimeouts(Duration connect, Duration read) {
+        return derive(builder -> builder.setConfig(timeouts(connect, read)));
+    }
+
+    public String getBaseUri() {
+        return SpecificationQuerier.query(baseSpec).getBaseUri();
+    }
+
+    /**
+     * A fresh request starting from this client's base spec; safe to customize, it is not shared.
+     */
+    public RequestSpecification request() {
+        return RestAssured.given().spec(baseSpec);
     }
 
     public Response get(String endpoint) {
-        Response response = requestSpec.get(endpoint);
+        Response response = request().get(endpoint);
         log.info("GET {} - Status: {}", endpoint, response.getStatusCode());
         return response;
     }
 
     public Response post(String endpoint, Object body) {
-        Response response = requestSpec.body(body).post(endpoint);
+        Response response = request().body(body).post(endpoint);
         log.info("POST {} - Status: {}", endpoint, response.getStatusCode());
         return response;
     }
 
     public Response put(String endpoint, Object body) {
-        Response response = requestSpec.body(body).put(endpoint);
+        Response response = request().body(body).put(endpoint);
         log.info("PUT {} - Status: {}", endpoint, response.getStatusCode());
         return response;
     }
 
     public Response patch(String endpoint, Object body) {
-        Response response = requestSpec.body(body).patch(endpoint);
+        Response response = request().body(body).patch(endpoint);
         log.info("PATCH {} - Status: {}", endpoint, response.getStatusCode());
         return response;
     }
 
     public Response delete(String endpoint) {
-        Response response = requestSpec.delete(endpoint);
+        Response response = request().delete(endpoint);
         log.info("DELETE {} - Status: {}", endpoint, response.getStatusCode());
         return response;
     }
 
     public Response postFormData(String endpoint, Map<String, String> formData) {
-        Response response = requestSpec
+        Response response = request()
                 .contentType(ContentType.URLENC)
                 .formParams(formData)
                 .post(endpoint);
@@ -117,7 +170,7 @@ public class ApiClient {
     }
 
     public Response uploadFile(String endpoint, String filePath, String fileParamName) {
-        Response response = requestSpec
+        Response response = request()
                 .contentType(ContentType.MULTIPART)
                 .multiPart(fileParamName, new java.io.File(filePath))
                 .post(endpoint);
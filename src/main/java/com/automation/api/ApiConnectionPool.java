@@ -0,0 +1,161 @@
+package com.automation.api;
+
+import com.automation.config.ConfigManager;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.apache.http.HttpConnection;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API Connection Pool - One keep-alive connection pool shared by every ApiClient
+ * RestAssured otherwise creates an HTTP client with a single-use connection per request, paying a TCP and TLS
+ * handshake on every call. Here each request still gets its own lightweight client, but all of them lease
+ * connections from this pool, which evicts idle connections in the background.
+ */
+@SuppressWarnings("deprecation") // RestAssured is built on the HttpClient 4.x classic API
+public final class ApiConnectionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiConnectionPool.class);
+
+    private static volatile PoolingClientConnectionManager connectionManager;
+    private static volatile long keepAliveMillis;
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicLong connectionsOpened = new AtomicLong();
+    private static final AtomicInteger peakLeased = new AtomicInteger();
+
+    private ApiConnectionPool() {
+        // Private constructor
+    }
+
+    /**
+     * Factory for RestAssured's HttpClientConfig: a client per request, backed by the shared pool.
+     */
+    public static HttpClientConfig.HttpClientFactory httpClientFactory() {
+        return ApiConnectionPool::newHttpClient;
+    }
+
+    /**
+     * Reads each response body to the end as soon as it arrives. RestAssured reads bodies lazily, and a pooled
+     * connection only goes back to the pool once its body is consumed, so an unread response would hold it forever.
+     */
+    public static Filter releaseFilter() {
+        return (requestSpec, responseSpec, context) -> {
+            Response response = context.next(requestSpec, responseSpec);
+            response.asByteArray();
+            return response;
+        };
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().isApiConnectionPoolEnabled();
+    }
+
+    public static boolean isInitialized() {
+        return connectionManager != null;
+    }
+
+    private static DefaultHttpClient newHttpClient() {
+        PoolingClientConnectionManager manager = getConnectionManager();
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        client.setHttpRequestRetryHandler(InterruptAwareRetryHandler.INSTANCE);
+
+        // Honour the server's Keep-Alive timeout but never keep a connection longer than configured
+        DefaultConnectionKeepAliveStrategy serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        client.setKeepAliveStrategy((response, context) -> {
+            long server = serverKeepAlive.getKeepAliveDuration(response, context);
+            return server > 0 ? Math.min(server, keepAliveMillis) : keepAliveMillis;
+        });
+
+        client.addResponseInterceptor((response, context) -> {
+            requests.incrementAndGet();
+            HttpConnection connection = (HttpConnection) context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection != null && connection.getMetrics().getRequestCount() <= 1) {
+                connectionsOpened.incrementAndGet();
+            }
+            peakLeased.accumulateAndGet(manager.getTotalStats().getLeased(), Math::max);
+        });
+        return client;
+    }
+
+    private static PoolingClientConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            synchronized (ApiConnectionPool.class) {
+                if (connectionManager == null) {
+                    connectionManager = createConnectionManager(ConfigManager.getInstance());
+                }
+            }
+        }
+        return connectionManager;
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager(ConfigManager config) {
+        keepAliveMillis = TimeUnit.SECONDS.toMillis(config.getApiKeepAlive());
+        PoolingClientConnectionManager manager =
+                new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault());
+        manager.setMaxTotal(config.getApiPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(config.getApiPoolMaxPerRoute());
+
+        int idleSeconds = config.getApiPoolIdleEviction();
+        if (idleSeconds > 0) {
+            ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "api-pool-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            evictor.scheduleWithFixedDelay(() -> {
+                manager.closeExpiredConnections();
+                manager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+            }, idleSeconds, idleSeconds, TimeUnit.SECONDS);
+        }
+
+        log.info("API connection pool created: max total {}, max per route {}, keep-alive {}s, idle eviction {}s",
+                manager.getMaxTotal(), manager.getDefaultMaxPerRoute(), config.getApiKeepAlive(), idleSeconds);
+        return manager;
+    }
+
+    public static PoolStats getStats() {
+        PoolingClientConnectionManager manager = connectionManager;
+        return manager == null ? new PoolStats(0, 0, 0, 0) : manager.getTotalStats();
+    }
+
+    public static long getRequestCount() {
+        return requests.get();
+    }
+
+    public static long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public static int getPeakLeased() {
+        return peakLeased.get();
+    }
+
+    /**
+     * Pool utilization and connection reuse since the pool was created.
+     */
+    public static String getReport() {
+        PoolStats stats = getStats();
+        long total = requests.get();
+        long opened = connectionsOpened.get();
+        double reuse = total == 0 ? 0 : 100.0 * (total - opened) / total;
+        return String.format("API connection pool: %d request(s) over %d connection(s) (%.1f%% reused); "
+                        + "peak leased %d/%d; now leased %d, idle %d, pending %d",
+                total, opened, reuse, peakLeased.get(), stats.getMax(), stats.getLeased(), stats.getAvailable(),
+                stats.getPending());
+    }
+}
@@ -0,0 +1,155 @@
+package com.automation.api;
+
+import com.automation.config.ConfigManager;
+import com.automation.enums.ApiLogMode;
+import com.automation.reports.AllureManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API Logging Filter - Writes request/response exchanges to the log according to api.log.mode
+ * Exchanges are only formatted when they are written. In on_failure mode each exchange is kept with its response
+ * until the response is garbage collected, and ApiUtils writes it out when an assertion on that response fails.
+ */
+public final class ApiLoggingFilter implements Filter {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoggingFilter.class);
+
+    private static volatile ApiLoggingFilter instance;
+
+    private static final Map<Response, Exchange> recentExchanges = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ApiLogMode mode;
+    private final int sampleRate;
+    private final int maxBodyChars;
+    private final AtomicLong exchanges = new AtomicLong();
+
+    private ApiLoggingFilter(ApiLogMode mode, int sampleRate, int maxBodyChars) {
+        this.mode = mode;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxBodyChars = maxBodyChars;
+    }
+
+    public static ApiLoggingFilter getInstance() {
+        if (instance == null) {
+            synchronized (ApiLoggingFilter.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    instance = new ApiLoggingFilter(config.getApiLogMode(), config.getApiLogSampleRate(),
+                            config.getApiLogMaxBodyChars());
+                    log.info("API logging mode: {}", instance.mode.getModeName());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * A filter with its own settings instead of the api.log.* configuration shared by ApiClient.
+     */
+    public static ApiLoggingFilter create(ApiLogMode mode, int sampleRate, int maxBodyChars) {
+        return new ApiLoggingFilter(mode, sampleRate, maxBodyChars);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        switch (mode) {
+            case ALL:
+                log.info(new Exchange(requestSpec, maxBodyChars).describe(response));
+                break;
+            case SAMPLED:
+                if (exchanges.getAndIncrement() % sampleRate == 0) {
+                    log.info(new Exchange(requestSpec, maxBodyChars).describe(response));
+                }
+                break;
+            case ON_FAILURE:
+                recentExchanges.put(response, new Exchange(requestSpec, maxBodyChars));
+                break;
+            default:
+                break;
+        }
+        return response;
+    }
+
+    /**
+     * Writes the exchange that produced the response to the log and the Allure report, if it was kept.
+     */
+    public static void logFailedExchange(Response response) {
+        Exchange exchange = recentExchanges.remove(response);
+        if (exchange == null) {
+            return;
+        }
+        String text = exchange.describe(response);
+        log.error("API assertion failed for exchange:{}{}", System.lineSeparator(), text);
+        AllureManager.attachText("API Exchange", text);
+    }
+
+    /**
+     * The parts of one request, formatted with its response only when written. It must not hold the response,
+     * which is its weak key while it waits for a failure.
+     */
+    private static final class Exchange {
+
+        private final String method;
+        private final String uri;
+        private final Headers requestHeaders;
+        private final Object requestBody;
+        private final int maxBodyChars;
+
+        Exchange(FilterableRequestSpecification request, int maxBodyChars) {
+            this.method = request.getMethod();
+            this.uri = request.getURI();
+            this.requestHeaders = request.getHeaders();
+            this.requestBody = request.getBody();
+            this.maxBodyChars = maxBodyChars;
+        }
+
+        String describe(Response response) {
+            String nl = System.lineSeparator();
+            StringBuilder text = new StringBuilder()
+                    .append("Request: ").append(method).append(' ').append(uri).append(nl);
+            appendHeaders(text, requestHeaders);
+            if (requestBody != null) {
+                String body = requestBody instanceof byte[]
+                        ? "<" + ((byte[]) requestBody).length + " bytes>"
+                        : String.valueOf(requestBody);
+                text.append("Body: ").append(truncate(body, maxBodyChars)).append(nl);
+            }
+            text.append("Response: ").append(response.getStatusLine())
+                    .append(" (").append(response.getTime()).append(" ms)").append(nl);
+            appendHeaders(text, response.getHeaders());
+            text.append("Body: ").append(truncate(response.asString(), maxBodyChars));
+            return text.toString();
+        }
+
+        private static void appendHeaders(StringBuilder text, Headers headers) {
+            for (Header header : headers) {
+                boolean secret = header.getName().equalsIgnoreCase("Authorization")
+                        || header.getName().equalsIgnoreCase("Proxy-Authorization");
+                text.append("  ").append(header.getName()).append(": ")
+                        .append(secret ? "***" : header.getValue()).append(System.lineSeparator());
+            }
+        }
+
+        private static String truncate(String body, int maxChars) {
+            if (maxChars <= 0 || body.length() <= maxChars) {
+                return body;
+            }
+            return body.substring(0, maxChars) + "... (" + (body.length() - maxChars) + " more chars)";
+        }
+    }
+}
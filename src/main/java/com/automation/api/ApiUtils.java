@@ -18,37 +18,50 @@ public class ApiUtils {
     }
 
     public static void assertStatusCode(Response response, int expectedStatusCode) {
-        assertEquals(response.getStatusCode(), expectedStatusCode,
-                "Expected status code: " + expectedStatusCode + ", but got: " + response.getStatusCode());
+        verify(response, () -> assertEquals(response.getStatusCode(), expectedStatusCode,
+                "Expected status code: " + expectedStatusCode + ", but got: " + response.getStatusCode()));
         log.info("Status code validated: {}", expectedStatusCode);
     }
 
     public static void assertResponseTime(Response response, long maxTime) {
         long responseTime = response.getTime();
-        assertTrue(responseTime <= maxTime,
-                "Response time " + responseTime + "ms exceeded max time " + maxTime + "ms");
+        verify(response, () -> assertTrue(responseTime <= maxTime,
+                "Response time " + responseTime + "ms exceeded max time " + maxTime + "ms"));
         log.info("Response time validated: {}ms (max: {}ms)", responseTime, maxTime);
     }
 
     public static void assertJsonPath(Response response, String jsonPath, Object expectedValue) {
-        Object actualValue = response.jsonPath().get(jsonPath);
-        assertEquals(actualValue, expectedValue,
-                "Expected value at '" + jsonPath + "': " + expectedValue + ", but got: " + actualValue);
+        verify(response, () -> {
+            Object actualValue = response.jsonPath().get(jsonPath);
+            assertEquals(actualValue, expectedValue,
+                    "Expected value at '" + jsonPath + "': " + expectedValue + ", but got: " + actualValue);
+        });
         log.info("JSON path '{}' validated: {}", jsonPath, expectedValue);
     }
 
     public static void assertContainsKey(Response response, String key) {
-        assertNotNull(response.jsonPath().get(key),
-                "Response does not contain key: " + key);
+        verify(response, () -> assertNotNull(response.jsonPath().get(key),
+                "Response does not contain key: " + key));
         log.info("Response contains key: {}", key);
     }
 
     public static void assertResponseNotEmpty(Response response) {
-        String body = response.getBody().asString();
-        assertFalse(body.isEmpty(), "Response body is empty");
+        verify(response, () -> assertFalse(response.getBody().asString().isEmpty(), "Response body is empty"));
         log.info("Response body is not empty");
     }
 
+    /**
+     * Runs an assertion on the response and writes out the exchange behind it when it fails.
+     */
+    private static void verify(Response response, Runnable assertion) {
+        try {
+            assertion.run();
+        } catch (AssertionError | RuntimeException e) {
+            ApiLoggingFilter.logFailedExchange(response);
+            throw e;
+        }
+    }
+
     public static <T> T getResponseAs(Response response, Class<T> clazz) {
         return response.as(clazz);
     }
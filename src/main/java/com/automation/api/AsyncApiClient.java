@@ -0,0 +1,243 @@
+package com.automation.api;
+
+import com.automation.config.ConfigManager;
+import com.automation.exceptions.FrameworkException;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Async API Client - Non-blocking facade over ApiClient that runs each request on its own virtual thread
+ * Submitting never blocks the caller. Requests wait on their virtual thread for a permit, capped by
+ * api.async.max.in.flight overall and by the pool's per-route size for each host. Waiting for a permit unmounts the
+ * virtual thread, so thousands of submitted calls queue cheaply. They never reach the connection pool's lease wait,
+ * which blocks inside a monitor and on Java 21 pins its carrier thread, starving the virtual threads that hold
+ * connections. Cancelling a returned future interrupts its request, which is then not retried, and the await*
+ * helpers fan in a batch of futures.
+ */
+public class AsyncApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncApiClient.class);
+
+    private static final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-async-", 0).factory());
+
+    private static final Map<String, Semaphore> routePermits = new ConcurrentHashMap<>();
+
+    private static volatile Semaphore inFlight;
+
+    private final ApiClient client;
+    private final Semaphore route;
+
+    public AsyncApiClient() {
+        this(new ApiClient());
+    }
+
+    public AsyncApiClient(String baseUrl) {
+        this(new ApiClient(baseUrl));
+    }
+
+    public AsyncApiClient(ApiClient client) {
+        this.client = client;
+        this.route = routePermits(client.getBaseUri());
+    }
+
+    /**
+     * The blocking client requests are made with; ApiClient is immutable, so it is safe to share.
+     */
+    public ApiClient getClient() {
+        return client;
+    }
+
+    public CompletableFuture<Response> get(String endpoint) {
+        return submit(api -> api.get(endpoint));
+    }
+
+    public CompletableFuture<Response> post(String endpoint, Object body) {
+        return submit(api -> api.post(endpoint, body));
+    }
+
+    public CompletableFuture<Response> put(String endpoint, Object body) {
+        return submit(api -> api.put(endpoint, body));
+    }
+
+    public CompletableFuture<Response> patch(String endpoint, Object body) {
+        return submit(api -> api.patch(endpoint, body));
+    }
+
+    public CompletableFuture<Response> delete(String endpoint) {
+        return submit(api -> api.delete(endpoint));
+    }
+
+    /**
+     * Runs any call on the client on a virtual thread, e.g. {@code submit(api -> api.withAuth(token).get("/me"))}.
+     */
+    public CompletableFuture<Response> submit(Function<ApiClient, Response> call) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            Semaphore global = getInFlight();
+            try {
+                route.acquire();
+                try {
+                    global.acquire();
+                } catch (InterruptedException e) {
+                    route.release();
+                    throw e;
+                }
+            } catch (InterruptedException e) {
+                result.cancel(false);
+                return;
+            }
+            try {
+                result.complete(call.apply(client));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                global.release();
+                route.release();
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static Semaphore getInFlight() {
+        if (inFlight == null) {
+            synchronized (AsyncApiClient.class) {
+                if (inFlight == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    int max = config.getApiAsyncMaxInFlight() > 0 ? config.getApiAsyncMaxInFlight() : Integer.MAX_VALUE;
+                    if (ApiConnectionPool.isEnabled()) {
+                        max = Math.min(max, config.getApiPoolMaxTotal());
+                    }
+                    inFlight = new Semaphore(max);
+                    log.info("Async API client: at most {} request(s) in flight", max);
+                }
+            }
+        }
+        return inFlight;
+    }
+
+    /**
+     * Permits shared by every async client for the same scheme, host and port; as many as the pool holds per route.
+     * An omitted port is the scheme's default, so http://host and http://host:80 share one route, as in the pool.
+     */
+    private static Semaphore routePermits(String baseUri) {
+        URI uri = URI.create(baseUri);
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equals(scheme) ? 443 : 80;
+        String route = scheme + "://" + uri.getHost() + ":" + port;
+        return routePermits.computeIfAbsent(route, key -> new Semaphore(ApiConnectionPool.isEnabled()
+                ? ConfigManager.getInstance().getApiPoolMaxPerRoute()
+                : Integer.MAX_VALUE));
+    }
+
+    /**
+     * Waits for every request and returns the responses in the order given. The first failed request cancels
+     * the rest and is rethrown.
+     */
+    public static List<Response> awaitAll(List<CompletableFuture<Response>> futures) {
+        return awaitAll(futures, null);
+    }
+
+    /**
+     * Waits for every request until the deadline; requests still running at the deadline are cancelled.
+     */
+    public static List<Response> awaitAll(List<CompletableFuture<Response>> futures, Duration deadline) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        futures.forEach(future -> future.whenComplete((response, error) -> {
+            if (error != null) {
+                all.completeExceptionally(error);
+            }
+        }));
+        try {
+            if (deadline == null) {
+                all.get();
+            } else {
+                all.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            long done = futures.stream().filter(CompletableFuture::isDone).count();
+            cancelAll(futures);
+            throw new FrameworkException(String.format("Only %d of %d request(s) completed within %d ms",
+                    done, futures.size(), deadline.toMillis()));
+        } catch (ExecutionException | CancellationException e) {
+            cancelAll(futures);
+            throw new FrameworkException("Request in fan-out failed", e.getCause() != null ? e.getCause() : e);
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for requests", e);
+        }
+
+        List<Response> responses = new ArrayList<>(futures.size());
+        futures.forEach(future -> responses.add(future.join()));
+        return responses;
+    }
+
+    /**
+     * Returns the first response with a 2xx status and cancels the requests still running.
+     */
+    public static Response awaitFirstSuccess(List<CompletableFuture<Response>> futures) {
+        return awaitFirst(futures, response -> response.getStatusCode() / 100 == 2, null);
+    }
+
+    /**
+     * Returns the first response the predicate accepts, within the deadline if one is given, and cancels the
+     * requests still running. Fails if every request fails or is rejected, or the deadline passes.
+     */
+    public static Response awaitFirst(List<CompletableFuture<Response>> futures, Predicate<Response> accept,
+                                      Duration deadline) {
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.stream()
+                        .map(future -> future.handle((response, error) -> {
+                            if (error == null && accept.test(response)) {
+                                first.complete(response);
+                            }
+                            return null;
+                        }))
+                        .toArray(CompletableFuture<?>[]::new))
+                .thenRun(() -> first.completeExceptionally(
+                        new FrameworkException("None of " + futures.size() + " request(s) succeeded")));
+        try {
+            return deadline == null ? first.get() : first.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new FrameworkException("No request succeeded within " + deadline.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof FrameworkException
+                    ? (FrameworkException) e.getCause()
+                    : new FrameworkException("Request in fan-out failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for requests", e);
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    private static void cancelAll(List<CompletableFuture<Response>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.api;
+
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+
+/**
+ * Interrupt Aware Retry Handler - HttpClient's default retries, except for requests whose thread was interrupted
+ * An interrupted socket fails with ClosedByInterruptException (or a SocketException on a virtual thread), which
+ * the default handler retries, so a cancelled request would be sent again. Here the interrupt ends the request.
+ */
+final class InterruptAwareRetryHandler extends DefaultHttpRequestRetryHandler {
+
+    static final InterruptAwareRetryHandler INSTANCE = new InterruptAwareRetryHandler();
+
+    private InterruptAwareRetryHandler() {
+        // Private constructor
+    }
+
+    @Override
+    public boolean retryRequest(IOException exception, int executionCount, HttpContext context) {
+        if (Thread.currentThread().isInterrupted() || exception instanceof ClosedByInterruptException) {
+            return false;
+        }
+        return super.retryRequest(exception, executionCount, context);
+    }
+}
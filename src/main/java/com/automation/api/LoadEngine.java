@@ -0,0 +1,429 @@
+package com.automation.api;
+
+import com.automation.config.ConfigManager;
+import com.automation.exceptions.FrameworkException;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Load Engine - Open-model load generator driving an ApiClient at a target arrival rate
+ * Requests are submitted on a fixed schedule, linear ramp-up to the rate, steady state, then linear ramp-down,
+ * whether or not earlier requests have answered. They are sent through AsyncApiClient, so at most
+ * api.http.pool.max.per.route requests to the host (and api.async.max.in.flight overall) are in flight at once;
+ * past that a slow server builds a queue in the client's permits rather than at the server.
+ * Latency is measured from each request's intended send time, which keeps queueing delay in the percentiles
+ * (no coordinated omission). Service time, from the actual send, and the time queued for a permit before it are
+ * reported alongside, with a warning when the client queue dominates. Failed requests count in the latency
+ * percentiles too, and requests cancelled at the drain deadline count with their latency up to that deadline.
+ */
+public class LoadEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadEngine.class);
+
+    /**
+     * Load phases, in the order they run
+     */
+    public enum Phase { RAMP_UP, STEADY, RAMP_DOWN }
+
+    private static final double[] REPORTED_PERCENTILES = {0.50, 0.90, 0.99, 0.999};
+
+    /**
+     * Time queued in the client below which it is scheduling jitter rather than a permit queue
+     */
+    private static final double QUEUE_WARNING_MILLIS = 10;
+
+    private final AsyncApiClient async;
+    private final Function<ApiClient, Response> call;
+    private final Predicate<Response> success;
+    private final Duration drain;
+
+    /**
+     * @param call the request made on each arrival, e.g. {@code api -> api.get("/users")}
+     */
+    public LoadEngine(ApiClient client, Function<ApiClient, Response> call) {
+        this(new AsyncApiClient(client), call, response -> response.getStatusCode() < 400,
+                Duration.ofSeconds(ConfigManager.getInstance().getApiReadTimeout()));
+    }
+
+    private LoadEngine(AsyncApiClient async, Function<ApiClient, Response> call, Predicate<Response> success,
+                       Duration drain) {
+        this.async = async;
+        this.call = call;
+        this.success = success;
+        this.drain = drain;
+    }
+
+    /**
+     * A copy of this engine that counts responses the predicate rejects as errors; by default any status
+     * below 400 succeeds.
+     */
+    public LoadEngine withSuccessCriteria(Predicate<Response> success) {
+        return new LoadEngine(async, call, success, drain);
+    }
+
+    /**
+     * A copy of this engine that waits this long after the last arrival for outstanding requests; by default the
+     * API read timeout.
+     */
+    public LoadEngine withDrain(Duration drain) {
+        return new LoadEngine(async, call, success, drain);
+    }
+
+    /**
+     * Runs the load and waits up to the drain time for the last requests to answer; requests still outstanding
+     * then are cancelled and counted as errors. Interrupting the calling thread stops the run.
+     */
+    public LoadReport run(double ratePerSecond, Duration rampUp, Duration steady, Duration rampDown) {
+        Schedule schedule = new Schedule(ratePerSecond, rampUp, steady, rampDown);
+        int arrivals = schedule.arrivals();
+        log.info("Load: {} request(s) at {}/s (ramp-up {}s, steady {}s, ramp-down {}s)", arrivals, ratePerSecond,
+                rampUp.toSeconds(), steady.toSeconds(), rampDown.toSeconds());
+
+        LoadReport report = new LoadReport(ratePerSecond, arrivals);
+        List<CompletableFuture<Response>> futures = new ArrayList<>(arrivals);
+        long start = System.nanoTime();
+        for (int k = 0; k < arrivals; k++) {
+            long intended = start + schedule.offsetNanos(k);
+            if (!sleepUntil(intended)) {
+                futures.forEach(future -> future.cancel(true));
+                throw new FrameworkException("Load run interrupted after " + k + " of " + arrivals + " request(s)");
+            }
+            int index = k;
+            report.schedule(index, schedule.phaseOf(intended - start), intended);
+            futures.add(async.submit(api -> {
+                long sent = System.nanoTime();
+                report.send(index, sent);
+                Response response;
+                try {
+                    response = call.apply(api);
+                } catch (RuntimeException e) {
+                    report.record(index, sent, System.nanoTime(), false);
+                    throw e;
+                }
+                report.record(index, sent, System.nanoTime(), success.test(response));
+                return response;
+            }));
+        }
+        long lastSent = System.nanoTime();
+
+        try {
+            CompletableFuture.allOf(futures.stream()
+                            .map(future -> future.exceptionally(error -> null))
+                            .toArray(CompletableFuture<?>[]::new))
+                    .get(drain.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Cancelling requests still outstanding {} ms after the load ended", drain.toMillis());
+        } catch (ExecutionException e) {
+            throw new FrameworkException("Load run failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for load requests", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        report.finish(start, lastSent, System.nanoTime());
+        log.info("{}{}", System.lineSeparator(), report);
+        warnIfClientBound(report);
+        return report;
+    }
+
+    /**
+     * Warns when requests spent longer waiting for a client permit than at the server: the latency then
+     * measures the client's connection limits, not the server.
+     */
+    private static void warnIfClientBound(LoadReport report) {
+        double queued = report.getQueuedMillis(0.90);
+        double service = report.getServiceTimeMillis(0.90);
+        if (queued >= QUEUE_WARNING_MILLIS && queued > service) {
+            ConfigManager config = ConfigManager.getInstance();
+            log.warn("Requests queued in the client longer than the server took (p90 {} ms vs {} ms); raise "
+                            + "api.http.pool.max.per.route ({}) or api.async.max.in.flight ({}) to load the server "
+                            + "rather than the connection limits", String.format("%.1f", queued),
+                    String.format("%.1f", service), config.getApiPoolMaxPerRoute(), config.getApiAsyncMaxInFlight());
+        }
+    }
+
+    /**
+     * Parks until the intended send time, re-parking after early wake-ups. Returns false if interrupted.
+     */
+    private static boolean sleepUntil(long intendedNanos) {
+        long wait;
+        while ((wait = intendedNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(wait);
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Intended send times of a ramp-up / steady / ramp-down arrival profile
+     */
+    private static final class Schedule {
+
+        private final double rate;
+        private final double rampUp;
+        private final double steady;
+        private final double rampDown;
+
+        Schedule(double ratePerSecond, Duration rampUp, Duration steady, Duration rampDown) {
+            if (ratePerSecond <= 0) {
+                throw new FrameworkException("Load rate must be positive: " + ratePerSecond);
+            }
+            this.rate = ratePerSecond;
+            this.rampUp = seconds(rampUp);
+            this.steady = seconds(steady);
+            this.rampDown = seconds(rampDown);
+        }
+
+        int arrivals() {
+            return (int) Math.floor(rate * (rampUp / 2 + steady + rampDown / 2));
+        }
+
+        /**
+         * Time of the k-th arrival: where the cumulative arrival count, the integral of the rate, reaches k.
+         */
+        long offsetNanos(int k) {
+            double afterRampUp = rate * rampUp / 2;
+            double afterSteady = afterRampUp + rate * steady;
+            double seconds;
+            if (k < afterRampUp) {
+                seconds = Math.sqrt(2 * rampUp * k / rate);
+            } else if (k < afterSteady) {
+                seconds = rampUp + (k - afterRampUp) / rate;
+            } else {
+                double remaining = Math.max(0, 1 - 2 * (k - afterSteady) / (rate * rampDown));
+                seconds = rampUp + steady + rampDown * (1 - Math.sqrt(remaining));
+            }
+            return (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+        }
+
+        Phase phaseOf(long offsetNanos) {
+            double seconds = offsetNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            if (seconds < rampUp) {
+                return Phase.RAMP_UP;
+            }
+            return seconds < rampUp + steady ? Phase.STEADY : Phase.RAMP_DOWN;
+        }
+
+        private static double seconds(Duration duration) {
+            return duration.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * Outcome of a load run: throughput, error rate and latency percentiles, overall and per phase.
+     * Requests write their own slot under the report's lock; finishing the report records the requests still
+     * outstanding at the drain deadline and freezes it, so late completions cannot change a returned report.
+     */
+    public static final class LoadReport {
+
+        private final double targetRate;
+        private final Phase[] phases;
+        private final long[] intendedNanos;
+        private final long[] queuedNanos;
+        private final long[] latencyNanos;
+        private final long[] serviceNanos;
+        private final boolean[] sent;
+        private final boolean[] succeeded;
+        private final boolean[] completed;
+        private long durationNanos;
+        private long sendLagNanos;
+        private int cancelled;
+        private boolean finished;
+
+        LoadReport(double targetRate, int arrivals) {
+            this.targetRate = targetRate;
+            this.phases = new Phase[arrivals];
+            this.intendedNanos = new long[arrivals];
+            this.queuedNanos = new long[arrivals];
+            this.latencyNanos = new long[arrivals];
+            this.serviceNanos = new long[arrivals];
+            this.sent = new boolean[arrivals];
+            this.succeeded = new boolean[arrivals];
+            this.completed = new boolean[arrivals];
+        }
+
+        synchronized void schedule(int index, Phase phase, long intended) {
+            phases[index] = phase;
+            intendedNanos[index] = intended;
+        }
+
+        /**
+         * Records that a request got its permits and is being sent; ignored once the report is finished.
+         */
+        synchronized void send(int index, long sentNanos) {
+            if (finished) {
+                return;
+            }
+            queuedNanos[index] = sentNanos - intendedNanos[index];
+            sent[index] = true;
+        }
+
+        /**
+         * Records a request that answered or failed on its own; ignored once the report is finished.
+         */
+        synchronized void record(int index, long sent, long done, boolean success) {
+            if (finished) {
+                return;
+            }
+            latencyNanos[index] = done - intendedNanos[index];
+            serviceNanos[index] = done - sent;
+            succeeded[index] = success;
+            completed[index] = true;
+        }
+
+        /**
+         * Requests still outstanding at the end are cancelled; their latency, and the time queued by those never
+         * sent, up to the end is a lower bound.
+         */
+        synchronized void finish(long start, long lastSent, long end) {
+            for (int i = 0; i < completed.length; i++) {
+                if (!sent[i]) {
+                    queuedNanos[i] = end - intendedNanos[i];
+                }
+                if (!completed[i]) {
+                    latencyNanos[i] = end - intendedNanos[i];
+                    cancelled++;
+                }
+            }
+            this.durationNanos = end - start;
+            this.sendLagNanos = lastSent - start;
+            this.finished = true;
+        }
+
+        public int getRequests() {
+            return phases.length;
+        }
+
+        public synchronized int getErrors() {
+            int errors = 0;
+            for (int i = 0; i < succeeded.length; i++) {
+                if (!completed[i] || !succeeded[i]) {
+                    errors++;
+                }
+            }
+            return errors;
+        }
+
+        /**
+         * Requests cancelled at the drain deadline; they are included in getErrors().
+         */
+        public synchronized int getCancelled() {
+            return cancelled;
+        }
+
+        public double getErrorRate() {
+            return phases.length == 0 ? 0 : getErrors() / (double) phases.length;
+        }
+
+        public double getTargetRate() {
+            return targetRate;
+        }
+
+        /**
+         * Successful responses per second over the whole run, from the first send to the last response.
+         */
+        public synchronized double getThroughput() {
+            return durationNanos == 0 ? 0
+                    : (phases.length - getErrors()) / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * Latency from intended send time at the percentile (0.0 - 1.0) over all requests, failed ones included.
+         * When requests were cancelled (getCancelled() > 0) the upper percentiles are lower bounds.
+         */
+        public double getLatencyMillis(double percentile) {
+            return percentileMillis(latencyNanos, null, percentile, true);
+        }
+
+        public double getLatencyMillis(Phase phase, double percentile) {
+            return percentileMillis(latencyNanos, phase, percentile, true);
+        }
+
+        /**
+         * Service time, from the actual send, at the percentile over the requests that answered or failed.
+         */
+        public double getServiceTimeMillis(double percentile) {
+            return percentileMillis(serviceNanos, null, percentile, false);
+        }
+
+        /**
+         * Time from intended send time to actual send at the percentile over all requests: scheduling delay plus
+         * the wait for an AsyncApiClient permit. Requests cancelled before they were sent count up to the end.
+         */
+        public double getQueuedMillis(double percentile) {
+            return percentileMillis(queuedNanos, null, percentile, true);
+        }
+
+        private synchronized double percentileMillis(long[] nanos, Phase phase, double percentile,
+                                                     boolean includeCancelled) {
+            long[] sorted = new long[nanos.length];
+            int count = 0;
+            for (int i = 0; i < nanos.length; i++) {
+                if ((includeCancelled || completed[i]) && (phase == null || phases[i] == phase)) {
+                    sorted[count++] = nanos[i];
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+            Arrays.sort(sorted, 0, count);
+            int rank = (int) Math.ceil(percentile * count);
+            return sorted[Math.max(0, Math.min(count, rank) - 1)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder report = new StringBuilder(String.format(
+                    "Load report: %d request(s), target %.1f/s, throughput %.1f/s, errors %d (%.2f%%), "
+                            + "cancelled %d, schedule %.1fs, run %.1fs",
+                    getRequests(), targetRate, getThroughput(), getErrors(), getErrorRate() * 100, cancelled,
+                    sendLagNanos / 1e9, durationNanos / 1e9));
+            if (cancelled > 0) {
+                report.append(System.lineSeparator())
+                        .append("Latency of cancelled requests is counted up to the drain deadline; "
+                                + "upper percentiles are lower bounds");
+            }
+            report.append(System.lineSeparator()).append(String.format("%-10s", "Latency"));
+            for (double percentile : REPORTED_PERCENTILES) {
+                report.append(String.format("%12s", "p" + formatPercentile(percentile)));
+            }
+            appendRow(report, "all", null, latencyNanos, true);
+            for (Phase phase : Phase.values()) {
+                if (Arrays.asList(phases).contains(phase)) {
+                    appendRow(report, phase.name().toLowerCase(), phase, latencyNanos, true);
+                }
+            }
+            appendRow(report, "queued", null, queuedNanos, true);
+            appendRow(report, "service", null, serviceNanos, false);
+            return report.toString();
+        }
+
+        private void appendRow(StringBuilder report, String label, Phase phase, long[] nanos,
+                               boolean includeCancelled) {
+            report.append(System.lineSeparator()).append(String.format("%-10s", label));
+            for (double percentile : REPORTED_PERCENTILES) {
+                report.append(String.format("%10.1fms",
+                        percentileMillis(nanos, phase, percentile, includeCancelled)));
+            }
+        }
+
+        private static String formatPercentile(double percentile) {
+            String value = String.valueOf(percentile * 100);
+            return value.endsWith(".0") ? value.substring(0, value.length() - 2) : value;
+        }
+    }
+}
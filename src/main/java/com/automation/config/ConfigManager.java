@@ -1,5 +1,8 @@
 package com.automation.config;
 
+import com.automation.enums.ApiLogMode;
+import com.automation.enums.BrowserProfile;
+import com.automation.enums.DriverMode;
 import com.automation.enums.EnvironmentType;
 import com.automation.exceptions.InvalidConfigException;
 import org.slf4j.Logger;
@@ -7,6 +10,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -17,7 +22,7 @@ public class ConfigManager {
 
     private static final Logger log = LoggerFactory.getLogger(ConfigManager.class);
 
-    private static ConfigManager instance;
+    private static volatile ConfigManager instance;
     private final Properties properties;
     private static final String CONFIG_PATH = "src/test/resources/config/";
 
@@ -26,9 +31,13 @@ public class ConfigManager {
         loadConfig();
     }
 
-    public static synchronized ConfigManager getInstance() {
+    public static ConfigManager getInstance() {
         if (instance == null) {
-            instance = new ConfigManager();
+            synchronized (ConfigManager.class) {
+                if (instance == null) {
+                    instance = new ConfigManager();
+                }
+            }
         }
         return instance;
     }
@@ -80,6 +89,17 @@ public class ConfigManager {
         return value != null ? Boolean.parseBoolean(value) : defaultValue;
     }
 
+    public List<String> getListProperty(String key) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
     // Convenience methods
     public String getBaseUrl() {
         return getProperty("base.url");
@@ -89,10 +109,30 @@ public class ConfigManager {
         return getProperty("browser", "chrome");
     }
 
+    public String getBrowserVersion() {
+        return getProperty("browser.version", "");
+    }
+
     public boolean isHeadless() {
         return getBooleanProperty("headless", false);
     }
 
+    public BrowserProfile getBrowserProfile() {
+        return BrowserProfile.valueOf(getProperty("browser.profile", "default").toUpperCase());
+    }
+
+    public List<String> getBlockedResourceTypes() {
+        return getListProperty("browser.block.resources");
+    }
+
+    public List<String> getBlockedDomains() {
+        return getListProperty("browser.block.domains");
+    }
+
+    public String getViewportSize() {
+        return getProperty("browser.viewport", "1366x768");
+    }
+
     public int getImplicitWait() {
         return getIntProperty("implicit.wait", 10);
     }
@@ -101,10 +141,58 @@ public class ConfigManager {
         return getIntProperty("explicit.wait", 20);
     }
 
+    public boolean isEventDrivenWaitEnabled() {
+        return getBooleanProperty("wait.event.driven", true);
+    }
+
+    public boolean isAdaptivePollingEnabled() {
+        return getBooleanProperty("wait.polling.adaptive", true);
+    }
+
+    public int getPollingMinMillis() {
+        return getIntProperty("wait.polling.min.millis", 50);
+    }
+
+    public int getPollingMaxMillis() {
+        return getIntProperty("wait.polling.max.millis", 1000);
+    }
+
+    public String getPollingHistoryPath() {
+        return getProperty("wait.polling.history.path", "");
+    }
+
+    public boolean isWaitTelemetryEnabled() {
+        return getBooleanProperty("wait.telemetry.enabled", true);
+    }
+
+    public int getWaitTelemetryTopCount() {
+        return getIntProperty("wait.telemetry.top", 20);
+    }
+
     public int getPageLoadTimeout() {
         return getIntProperty("page.load.timeout", 30);
     }
 
+    public int getPageReadyQuietMillis() {
+        return getIntProperty("page.ready.quiet.millis", 500);
+    }
+
+    public boolean isPageReadyAnimationTracking() {
+        return getBooleanProperty("page.ready.animations", true);
+    }
+
+    public String getPageReadyIgnoredUrls() {
+        return getProperty("page.ready.ignore.urls", "");
+    }
+
+    public boolean isPageReadyAfterNavigation() {
+        return getBooleanProperty("page.ready.after.navigation", false);
+    }
+
+    public boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", true);
+    }
+
     public String getEnvironment() {
         return getProperty("environment", "dev");
     }
@@ -121,6 +209,109 @@ public class ConfigManager {
         return getProperty("remote.url", "http://localhost:4444/wd/hub");
     }
 
+    public int getThreadCount() {
+        return getIntProperty("thread.count", 4);
+    }
+
+    // Driver lifecycle
+    public DriverMode getDriverMode() {
+        return DriverMode.valueOf(getProperty("driver.mode", "direct").toUpperCase());
+    }
+
+    public int getDriverPoolSize() {
+        return getIntProperty("driver.pool.size", getThreadCount());
+    }
+
+    public int getDriverPoolMaxUses() {
+        return getIntProperty("driver.pool.max.uses", 20);
+    }
+
+    public int getDriverPoolIdleTimeout() {
+        return getIntProperty("driver.pool.idle.timeout", 300);
+    }
+
+    public int getDriverPoolLeaseTimeout() {
+        return getIntProperty("driver.pool.lease.timeout", 120);
+    }
+
+    public boolean isDriverPoolWarmupEnabled() {
+        return getBooleanProperty("driver.pool.warmup", true);
+    }
+
+    public boolean isAsyncTeardownEnabled() {
+        return getBooleanProperty("driver.teardown.async", false);
+    }
+
+    public int getDriverTeardownThreads() {
+        return getIntProperty("driver.teardown.threads", 2);
+    }
+
+    public int getDriverTeardownBacklog() {
+        return getIntProperty("driver.teardown.backlog", 8);
+    }
+
+    public int getDriverQuitTimeout() {
+        return getIntProperty("driver.quit.timeout", 30);
+    }
+
+    public int getSessionMaxInFlight() {
+        return getIntProperty("driver.session.max.inflight", getThreadCount());
+    }
+
+    public int getSessionQueueTimeout() {
+        return getIntProperty("driver.session.queue.timeout", 120);
+    }
+
+    public int getSessionCircuitFailures() {
+        return getIntProperty("driver.session.circuit.failures", 5);
+    }
+
+    public int getSessionCircuitCooldown() {
+        return getIntProperty("driver.session.circuit.cooldown", 30);
+    }
+
+    public String getDriverBinaryIndexPath() {
+        return getProperty("driver.binary.index",
+                System.getProperty("user.home") + "/.cache/selenium-automation/driver-index.properties");
+    }
+
+    public int getDriverBinaryIndexTtlHours() {
+        return getIntProperty("driver.binary.index.ttl.hours", 24);
+    }
+
+    public List<String> getRemoteUrls() {
+        List<String> urls = getListProperty("remote.urls");
+        return urls.isEmpty() ? List.of(getRemoteUrl()) : urls;
+    }
+
+    public long getRemoteStatusTtlMillis() {
+        return getIntProperty("remote.status.ttl.ms", 2000);
+    }
+
+    public int getRemoteEndpointCooldown() {
+        return getIntProperty("remote.endpoint.cooldown", 30);
+    }
+
+    public String getRemoteHttpVersion() {
+        return getProperty("remote.http.version", "HTTP_1_1");
+    }
+
+    public int getRemoteHttpPoolSize() {
+        return getIntProperty("remote.http.pool.size", 32);
+    }
+
+    public int getRemoteHttpKeepAlive() {
+        return getIntProperty("remote.http.keepalive", 300);
+    }
+
+    public int getRemoteHttpConnectTimeout() {
+        return getIntProperty("remote.http.connect.timeout", 10);
+    }
+
+    public int getRemoteHttpReadTimeout() {
+        return getIntProperty("remote.http.read.timeout", 180);
+    }
+
     public String getSlackWebhookUrl() {
         return getProperty("slack.webhook.url");
     }
@@ -133,6 +324,50 @@ public class ConfigManager {
         return getProperty("api.base.url");
     }
 
+    public int getApiConnectTimeout() {
+        return getIntProperty("api.connect.timeout", 10);
+    }
+
+    public int getApiReadTimeout() {
+        return getIntProperty("api.read.timeout", 30);
+    }
+
+    public boolean isApiConnectionPoolEnabled() {
+        return getBooleanProperty("api.http.pool.enabled", true);
+    }
+
+    public int getApiPoolMaxTotal() {
+        return getIntProperty("api.http.pool.max.total", 64);
+    }
+
+    public int getApiPoolMaxPerRoute() {
+        return getIntProperty("api.http.pool.max.per.route", 16);
+    }
+
+    public int getApiKeepAlive() {
+        return getIntProperty("api.http.keepalive", 30);
+    }
+
+    public int getApiPoolIdleEviction() {
+        return getIntProperty("api.http.idle.eviction", 15);
+    }
+
+    public int getApiAsyncMaxInFlight() {
+        return getIntProperty("api.async.max.in.flight", 64);
+    }
+
+    public ApiLogMode getApiLogMode() {
+        return ApiLogMode.valueOf(getProperty("api.log.mode", "on_failure").toUpperCase());
+    }
+
+    public int getApiLogSampleRate() {
+        return getIntProperty("api.log.sample.rate", 100);
+    }
+
+    public int getApiLogMaxBodyChars() {
+        return getIntProperty("api.log.max.body", 4096);
+    }
+
     public void reload() {
         properties.clear();
         loadConfig();
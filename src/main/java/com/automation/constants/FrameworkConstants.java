@@ -1,6 +1,8 @@
 package com.automation.constants;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Framework Constants - Centralized location for all framework constants
@@ -56,6 +58,45 @@ public final class FrameworkConstants {
             "-private"
     };
 
+    // Fast profile - Chromium switches that turn off non-essential subsystems
+    public static final String[] FAST_CHROMIUM_OPTIONS = {
+            "--disable-background-networking",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-sync",
+            "--disable-translate",
+            "--disable-client-side-phishing-detection",
+            "--disable-domain-reliability",
+            "--disable-hang-monitor",
+            "--disable-renderer-backgrounding",
+            "--disable-background-timer-throttling",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-features=Translate,OptimizationHints,MediaRouter,InterestFeedContentSuggestions",
+            "--metrics-recording-only",
+            "--no-first-run",
+            "--mute-audio"
+    };
+
+    // Fast profile - Firefox preferences that turn off non-essential subsystems
+    public static final Map<String, Object> FAST_FIREFOX_PREFERENCES = Map.ofEntries(
+            Map.entry("app.update.enabled", false),
+            Map.entry("browser.safebrowsing.malware.enabled", false),
+            Map.entry("browser.safebrowsing.phishing.enabled", false),
+            Map.entry("datareporting.healthreport.uploadEnabled", false),
+            Map.entry("datareporting.policy.dataSubmissionEnabled", false),
+            Map.entry("toolkit.telemetry.enabled", false),
+            Map.entry("extensions.update.enabled", false),
+            Map.entry("network.prefetch-next", false),
+            Map.entry("media.autoplay.default", 5)
+    );
+
+    // URL patterns blocked per resource type by the fast profile
+    public static final Map<String, List<String>> BLOCKED_RESOURCE_PATTERNS = Map.of(
+            "images", List.of("*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico"),
+            "media", List.of("*.mp4", "*.webm", "*.ogg", "*.mp3", "*.wav", "*.m3u8"),
+            "fonts", List.of("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot")
+    );
+
     // API Testing
     public static final int API_TIMEOUT = 30000;
     public static final String CONTENT_TYPE_JSON = "application/json";
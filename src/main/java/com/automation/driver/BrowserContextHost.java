@@ -0,0 +1,139 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.enums.BrowserType;
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser Context Host - One local Chromium browser process hosting an isolated browser context per test
+ * Each context has its own cookie jar and storage and is driven by a WebDriver session attached to the shared process
+ */
+public class BrowserContextHost {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserContextHost.class);
+
+    private final BrowserType browserType;
+    private final ChromiumDriver host;
+    private final String debuggerAddress;
+
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+
+    BrowserContextHost(ConfigManager config) {
+        this.browserType = BrowserType.valueOf(config.getBrowser().toUpperCase());
+        if (config.isRemoteExecution() || (browserType != BrowserType.CHROME && browserType != BrowserType.EDGE)) {
+            throw new FrameworkException("Browser context isolation requires a local Chrome or Edge browser, got: "
+                    + browserType + (config.isRemoteExecution() ? " (remote)" : ""));
+        }
+
+        this.host = (ChromiumDriver) DriverFactory.createDriver();
+        String optionsCapability = browserType == BrowserType.EDGE ? "ms:edgeOptions" : "goog:chromeOptions";
+        Object options = host.getCapabilities().getCapability(optionsCapability);
+        if (!(options instanceof Map) || ((Map<?, ?>) options).get("debuggerAddress") == null) {
+            host.quit();
+            throw new FrameworkException("Host browser did not report a debugger address in " + optionsCapability);
+        }
+        this.debuggerAddress = String.valueOf(((Map<?, ?>) options).get("debuggerAddress"));
+        log.info("Browser context host started for {} at {}", browserType, debuggerAddress);
+    }
+
+    /**
+     * Creates a fresh browser context with one blank tab and returns a session bound to that tab.
+     */
+    BrowserContextSession openContext() {
+        String contextId;
+        String targetId;
+        synchronized (host) {
+            Map<String, Object> context = host.executeCdpCommand("Target.createBrowserContext",
+                    Map.of("disposeOnDetach", false));
+            contextId = String.valueOf(context.get("browserContextId"));
+            Map<String, Object> target = host.executeCdpCommand("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId));
+            targetId = String.valueOf(target.get("targetId"));
+        }
+
+        WebDriver driver;
+        try {
+            driver = DriverFactory.attachToBrowser(browserType, debuggerAddress);
+            String handle = driver.getWindowHandles().stream()
+                    .filter(h -> h.endsWith(targetId))
+                    .findFirst()
+                    .orElseThrow(() -> new FrameworkException("Tab for browser context " + contextId + " not found"));
+            driver.switchTo().window(handle);
+        } catch (RuntimeException e) {
+            disposeContext(contextId);
+            throw e;
+        }
+
+        opened.incrementAndGet();
+        active.incrementAndGet();
+        log.debug("Browser context {} opened for thread: {}", contextId, Thread.currentThread().getId());
+        return new BrowserContextSession(driver, contextId);
+    }
+
+    /**
+     * Ends the attached session and disposes the context, discarding its cookies, storage and tabs.
+     */
+    void closeContext(BrowserContextSession session) {
+        try {
+            session.getDriver().quit();
+        } catch (Exception e) {
+            log.error("Error quitting context session: {}", e.getMessage());
+        } finally {
+            disposeContext(session.getContextId());
+            active.decrementAndGet();
+        }
+    }
+
+    void shutdown() {
+        try {
+            host.quit();
+        } catch (Exception e) {
+            log.error("Error quitting context host browser: {}", e.getMessage());
+        }
+        log.info("Browser context host shut down - {}", getStats());
+    }
+
+    public String getStats() {
+        return String.format("contexts opened: %d, still active: %d", opened.get(), active.get());
+    }
+
+    private void disposeContext(String contextId) {
+        try {
+            synchronized (host) {
+                host.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to dispose browser context {}: {}", contextId, e.getMessage());
+        }
+    }
+
+    /**
+     * A WebDriver session attached to one browser context of the shared host process
+     */
+    static class BrowserContextSession {
+
+        private final WebDriver driver;
+        private final String contextId;
+
+        BrowserContextSession(WebDriver driver, String contextId) {
+            this.driver = driver;
+            this.contextId = contextId;
+        }
+
+        WebDriver getDriver() {
+            return driver;
+        }
+
+        String getContextId() {
+            return contextId;
+        }
+    }
+}
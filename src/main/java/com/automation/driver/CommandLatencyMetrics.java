@@ -0,0 +1,64 @@
+package com.automation.driver;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Command Latency Metrics - Per-command latency counters for WebDriver wire traffic
+ * Commands are keyed by HTTP method and path with session, element and shadow root ids replaced by placeholders
+ */
+public class CommandLatencyMetrics {
+
+    // Only session, element and shadow ids are opaque path segments; /element/active is a command, not an id
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(session|element|shadow)/(?!active(?:/|$))[^/]+");
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public void record(String method, String path, long nanos) {
+        stats.computeIfAbsent(method + " " + normalize(path), key -> new Stats()).add(nanos);
+    }
+
+    public String getSummary() {
+        if (stats.isEmpty()) {
+            return "no remote commands recorded";
+        }
+        return stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().total.sum()).reversed())
+                .map(e -> String.format("%s - count: %d, avg: %.1fms, max: %.1fms", e.getKey(),
+                        e.getValue().count.sum(), e.getValue().averageMillis(), e.getValue().maxMillis()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    static String normalize(String path) {
+        int query = path.indexOf('?');
+        String stripped = query >= 0 ? path.substring(0, query) : path;
+        return ID_SEGMENT.matcher(stripped).replaceAll("/$1/{id}");
+    }
+
+    private static class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        double averageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : total.sum() / (double) n / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        double maxMillis() {
+            return max.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
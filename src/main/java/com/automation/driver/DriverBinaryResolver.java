@@ -0,0 +1,171 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.enums.BrowserType;
+import com.automation.exceptions.FrameworkException;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Driver Binary Resolver - Resolves driver executables once per JVM
+ * Resolved paths are persisted to an on-disk index keyed by browser + version so later runs skip WebDriverManager
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final Map<BrowserType, String> resolved = new ConcurrentHashMap<>();
+
+    // e.g. "This version of ChromeDriver only supports Chrome version 114 / Current browser version is 120..."
+    private static final Pattern VERSION_MISMATCH = Pattern.compile(
+            "only supports .*version|current browser version is", Pattern.CASE_INSENSITIVE);
+
+    private DriverBinaryResolver() {
+        // Private constructor
+    }
+
+    /**
+     * Ensures the driver binary for the browser is resolved and exported as a system property.
+     * Only the first call per browser in a JVM does any work.
+     */
+    public static void resolve(BrowserType browserType, ConfigManager config) {
+        resolved.computeIfAbsent(browserType, type -> resolveBinary(type, config));
+    }
+
+    /**
+     * Drops the resolution for a browser, e.g. after the installed browser was upgraded and the cached driver no longer matches.
+     */
+    public static void invalidate(BrowserType browserType, ConfigManager config) {
+        resolved.remove(browserType);
+        String key = indexKey(browserType, config);
+        Path indexFile = Paths.get(config.getDriverBinaryIndexPath());
+        synchronized (DriverBinaryResolver.class) {
+            Properties index = loadIndex(indexFile);
+            index.remove(key + ".path");
+            index.remove(key + ".driver.version");
+            index.remove(key + ".resolved.at");
+            storeIndex(indexFile, index);
+        }
+        log.info("Driver binary resolution invalidated for {}", key);
+    }
+
+    /**
+     * True when a failed session creation reports that the driver binary does not match the installed browser,
+     * the only failure a fresh resolution can fix.
+     */
+    public static boolean isVersionMismatch(Throwable failure) {
+        String message = failure.getMessage();
+        return message != null && VERSION_MISMATCH.matcher(message).find();
+    }
+
+    private static String resolveBinary(BrowserType browserType, ConfigManager config) {
+        String key = indexKey(browserType, config);
+        Path indexFile = Paths.get(config.getDriverBinaryIndexPath());
+        long maxAgeMillis = TimeUnit.HOURS.toMillis(config.getDriverBinaryIndexTtlHours());
+
+        synchronized (DriverBinaryResolver.class) {
+            Properties index = loadIndex(indexFile);
+            String path = index.getProperty(key + ".path");
+            long resolvedAt = Long.parseLong(index.getProperty(key + ".resolved.at", "0"));
+
+            if (path != null && Files.isExecutable(Paths.get(path))
+                    && System.currentTimeMillis() - resolvedAt < maxAgeMillis) {
+                System.setProperty(driverProperty(browserType), path);
+                log.info("Driver binary for {} loaded from index: {}", key, path);
+                return path;
+            }
+
+            WebDriverManager manager = managerFor(browserType);
+            String browserVersion = config.getBrowserVersion();
+            if (browserVersion != null && !browserVersion.isEmpty()) {
+                manager.browserVersion(browserVersion);
+            }
+            manager.setup();
+
+            path = manager.getDownloadedDriverPath();
+            if (path == null) {
+                throw new FrameworkException("WebDriverManager did not resolve a driver for " + browserType);
+            }
+            System.setProperty(driverProperty(browserType), path);
+
+            index.setProperty(key + ".path", path);
+            index.setProperty(key + ".driver.version", String.valueOf(manager.getDownloadedDriverVersion()));
+            index.setProperty(key + ".resolved.at", String.valueOf(System.currentTimeMillis()));
+            storeIndex(indexFile, index);
+
+            log.info("Driver binary for {} resolved via WebDriverManager: {}", key, path);
+            return path;
+        }
+    }
+
+    private static String indexKey(BrowserType browserType, ConfigManager config) {
+        String version = config.getBrowserVersion();
+        return browserType.getBrowserName() + "." + (version == null || version.isEmpty() ? "installed" : version);
+    }
+
+    private static WebDriverManager managerFor(BrowserType browserType) {
+        switch (browserType) {
+            case CHROME:
+                return WebDriverManager.chromedriver();
+            case FIREFOX:
+                return WebDriverManager.firefoxdriver();
+            case EDGE:
+                return WebDriverManager.edgedriver();
+            default:
+                throw new FrameworkException("Unsupported browser type: " + browserType);
+        }
+    }
+
+    private static String driverProperty(BrowserType browserType) {
+        switch (browserType) {
+            case CHROME:
+                return "webdriver.chrome.driver";
+            case FIREFOX:
+                return "webdriver.gecko.driver";
+            case EDGE:
+                return "webdriver.edge.driver";
+            default:
+                throw new FrameworkException("Unsupported browser type: " + browserType);
+        }
+    }
+
+    private static Properties loadIndex(Path indexFile) {
+        Properties index = new Properties();
+        if (Files.exists(indexFile)) {
+            try (InputStream in = Files.newInputStream(indexFile)) {
+                index.load(in);
+            } catch (IOException e) {
+                log.warn("Failed to read driver binary index {}: {}", indexFile, e.getMessage());
+            }
+        }
+        return index;
+    }
+
+    private static void storeIndex(Path indexFile, Properties index) {
+        try {
+            Path parent = indexFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "driver-index", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                index.store(out, "Resolved WebDriver binaries");
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write driver binary index {}: {}", indexFile, e.getMessage());
+        }
+    }
+}
@@ -2,23 +2,36 @@ package com.automation.driver;
 
 import com.automation.config.ConfigManager;
 import com.automation.constants.FrameworkConstants;
+import com.automation.enums.BrowserProfile;
 import com.automation.enums.BrowserType;
 import com.automation.exceptions.FrameworkException;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.automation.exceptions.InvalidConfigException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Driver Factory - Creates and configures WebDriver instances
@@ -28,6 +41,8 @@ public class DriverFactory {
 
     private static final Logger log = LoggerFactory.getLogger(DriverFactory.class);
 
+    private static volatile GridEndpointSelector gridSelector;
+
     private DriverFactory() {
         // Private constructor
     }
@@ -37,82 +52,128 @@ public class DriverFactory {
         String browserName = config.getBrowser();
         BrowserType browserType = BrowserType.valueOf(browserName.toUpperCase());
 
-        WebDriver driver;
-
-        if (config.isRemoteExecution()) {
-            driver = createRemoteDriver(browserType, config);
-        } else {
-            driver = createLocalDriver(browserType, config);
-        }
+        WebDriver driver = SessionAdmissionController.getInstance().admit(() -> {
+            if (config.isRemoteExecution()) {
+                return createRemoteDriver(browserType, config);
+            }
+            return createLocalDriver(browserType, config);
+        });
 
         configureDriver(driver, config);
         return driver;
     }
 
     private static WebDriver createLocalDriver(BrowserType browserType, ConfigManager config) {
+        long resolveStart = System.currentTimeMillis();
+        DriverBinaryResolver.resolve(browserType, config);
+        long resolveMillis = System.currentTimeMillis() - resolveStart;
+
+        long launchStart = System.currentTimeMillis();
         WebDriver driver;
+        try {
+            driver = launchLocalDriver(browserType, config);
+        } catch (SessionNotCreatedException e) {
+            if (!DriverBinaryResolver.isVersionMismatch(e)) {
+                throw e;
+            }
+            log.warn("{} driver binary does not match the browser, re-resolving: {}", browserType, e.getMessage());
+            DriverBinaryResolver.invalidate(browserType, config);
+            DriverBinaryResolver.resolve(browserType, config);
+            driver = launchLocalDriver(browserType, config);
+        }
+
+        log.info("{} browser initialized (driver resolution: {}ms, launch: {}ms)",
+                browserType, resolveMillis, System.currentTimeMillis() - launchStart);
+        return driver;
+    }
 
+    private static WebDriver launchLocalDriver(BrowserType browserType, ConfigManager config) {
         switch (browserType) {
             case CHROME:
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver(getChromeOptions(config));
-                log.info("Chrome browser initialized");
-                break;
+                return new ChromeDriver(getChromeOptions(config));
 
             case FIREFOX:
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver(getFirefoxOptions(config));
-                log.info("Firefox browser initialized");
-                break;
+                return new FirefoxDriver(getFirefoxOptions(config));
 
             case EDGE:
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver(getEdgeOptions(config));
-                log.info("Edge browser initialized");
-                break;
+                return new EdgeDriver(getEdgeOptions(config));
 
             default:
                 throw new FrameworkException("Unsupported browser type: " + browserType);
         }
-
-        return driver;
     }
 
+    /**
+     * Places the session on the least-loaded grid endpoint, failing over to the next one when a hub refuses it.
+     */
     private static WebDriver createRemoteDriver(BrowserType browserType, ConfigManager config) {
-        WebDriver driver;
-        String remoteUrl = config.getRemoteUrl();
+        Capabilities options;
 
-        try {
-            switch (browserType) {
-                case CHROME:
-                    driver = new RemoteWebDriver(new URL(remoteUrl), getChromeOptions(config));
-                    break;
+        switch (browserType) {
+            case CHROME:
+                options = getChromeOptions(config);
+                break;
 
-                case FIREFOX:
-                    driver = new RemoteWebDriver(new URL(remoteUrl), getFirefoxOptions(config));
-                    break;
+            case FIREFOX:
+                options = getFirefoxOptions(config);
+                break;
 
-                case EDGE:
-                    driver = new RemoteWebDriver(new URL(remoteUrl), getEdgeOptions(config));
-                    break;
+            case EDGE:
+                options = getEdgeOptions(config);
+                break;
 
-                default:
-                    throw new FrameworkException("Unsupported browser type for remote: " + browserType);
-            }
+            default:
+                throw new FrameworkException("Unsupported browser type for remote: " + browserType);
+        }
 
-            log.info("Remote {} browser initialized at {}", browserType, remoteUrl);
-        } catch (MalformedURLException e) {
-            throw new FrameworkException("Invalid remote URL: " + remoteUrl, e);
+        GridEndpointSelector selector = getGridSelector(config);
+        RemoteHttpClientFactory clientFactory = RemoteHttpClientFactory.getInstance();
+        RuntimeException lastFailure = null;
+
+        for (GridEndpointSelector.GridEndpoint endpoint : selector.rank()) {
+            try {
+                HttpCommandExecutor executor = new HttpCommandExecutor(
+                        Map.of(), clientFactory.clientConfig(endpoint.getUrl()), clientFactory);
+                WebDriver driver = new RemoteWebDriver(executor, options);
+                selector.recordPlacement(endpoint);
+                log.info("Remote {} browser initialized at {}", browserType, endpoint);
+                return driver;
+            } catch (WebDriverException | UncheckedIOException e) {
+                log.warn("Grid endpoint {} refused session: {}", endpoint.getUrl(), e.getMessage());
+                selector.markDown(endpoint);
+                lastFailure = e;
+            }
         }
 
-        return driver;
+        throw new FrameworkException("No grid endpoint could create a " + browserType + " session", lastFailure);
+    }
+
+    private static GridEndpointSelector getGridSelector(ConfigManager config) {
+        if (gridSelector == null) {
+            synchronized (DriverFactory.class) {
+                if (gridSelector == null) {
+                    gridSelector = new GridEndpointSelector(config.getRemoteUrls(),
+                            config.getRemoteStatusTtlMillis(),
+                            TimeUnit.SECONDS.toMillis(config.getRemoteEndpointCooldown()));
+                }
+            }
+        }
+        return gridSelector;
     }
 
     private static ChromeOptions getChromeOptions(ConfigManager config) {
         ChromeOptions options = new ChromeOptions();
+        boolean fast = config.getBrowserProfile() == BrowserProfile.FAST;
 
         for (String arg : FrameworkConstants.CHROME_OPTIONS) {
-            options.addArguments(arg);
+            if (!(fast && arg.equals("--start-maximized"))) {
+                options.addArguments(arg);
+            }
+        }
+
+        if (fast) {
+            applyFastProfile(options, config);
+            log.info("Chrome using fast profile");
         }
 
         if (config.isHeadless()) {
@@ -131,6 +192,32 @@ public class DriverFactory {
             options.addArguments(arg);
         }
 
+        if (config.getBrowserProfile() == BrowserProfile.FAST) {
+            FrameworkConstants.FAST_FIREFOX_PREFERENCES.forEach(options::addPreference);
+
+            List<String> resources = config.getBlockedResourceTypes();
+            if (resources.contains("images")) {
+                options.addPreference("permissions.default.image", 2);
+            }
+            if (resources.contains("fonts")) {
+                options.addPreference("gfx.downloadable_fonts.enabled", false);
+                options.addPreference("browser.display.use_document_fonts", 0);
+            }
+            if (resources.contains("media")) {
+                // Firefox has no preference that stops media downloads, and no CDP to block them by URL
+                log.warn("Blocking media is not supported on Firefox; media will still be downloaded");
+            }
+            List<String> domains = config.getBlockedDomains();
+            if (!domains.isEmpty()) {
+                // Listed hosts resolve to localhost, so requests to them fail immediately
+                options.addPreference("network.dns.localDomains", String.join(",", domains));
+            }
+
+            Dimension viewport = getViewport(config);
+            options.addArguments("--width=" + viewport.getWidth(), "--height=" + viewport.getHeight());
+            log.info("Firefox using fast profile");
+        }
+
         if (config.isHeadless()) {
             options.addArguments("-headless");
             log.info("Firefox running in headless mode");
@@ -143,6 +230,11 @@ public class DriverFactory {
     private static EdgeOptions getEdgeOptions(ConfigManager config) {
         EdgeOptions options = new EdgeOptions();
 
+        if (config.getBrowserProfile() == BrowserProfile.FAST) {
+            applyFastProfile(options, config);
+            log.info("Edge using fast profile");
+        }
+
         if (config.isHeadless()) {
             options.addArguments("--headless=new");
             log.info("Edge running in headless mode");
@@ -152,14 +244,130 @@ public class DriverFactory {
         return options;
     }
 
+    private static void applyFastProfile(ChromiumOptions<?> options, ConfigManager config) {
+        options.addArguments(FrameworkConstants.FAST_CHROMIUM_OPTIONS);
+
+        Dimension viewport = getViewport(config);
+        options.addArguments("--window-size=" + viewport.getWidth() + "," + viewport.getHeight());
+
+        if (config.getBlockedResourceTypes().contains("images")) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            addPreference(options, "profile.managed_default_content_settings.images", 2);
+        }
+
+        List<String> domains = config.getBlockedDomains();
+        if (!domains.isEmpty()) {
+            String rules = domains.stream()
+                    .map(domain -> "MAP " + domain + " ~NOTFOUND, MAP *." + domain + " ~NOTFOUND")
+                    .collect(Collectors.joining(", "));
+            options.addArguments("--host-resolver-rules=" + rules);
+        }
+    }
+
+    /**
+     * Adds a browser preference, keeping any preferences already set on the options.
+     */
+    private static void addPreference(ChromiumOptions<?> options, String name, Object value) {
+        Map<String, Object> prefs = new HashMap<>();
+        for (String capability : options.getCapabilityNames()) {
+            // Vendor options (goog:chromeOptions, ms:edgeOptions) hold the experimental options, prefs included
+            Object vendorOptions = options.getCapability(capability);
+            if (capability.endsWith("Options") && vendorOptions instanceof Map) {
+                Object existing = ((Map<?, ?>) vendorOptions).get("prefs");
+                if (existing instanceof Map) {
+                    ((Map<?, ?>) existing).forEach((key, pref) -> prefs.put(String.valueOf(key), pref));
+                }
+            }
+        }
+        prefs.put(name, value);
+        options.setExperimentalOption("prefs", prefs);
+    }
+
+    /**
+     * Blocks media and font downloads over CDP; these have no launch switch. Only local Chromium sessions support it.
+     */
+    private static void blockResources(WebDriver driver, ConfigManager config) {
+        List<String> patterns = new ArrayList<>();
+        for (String type : config.getBlockedResourceTypes()) {
+            if (!type.equals("images")) {
+                patterns.addAll(FrameworkConstants.BLOCKED_RESOURCE_PATTERNS.getOrDefault(type, List.of()));
+            }
+        }
+        if (patterns.isEmpty() || !(driver instanceof HasCdp)) {
+            return;
+        }
+
+        try {
+            ((HasCdp) driver).executeCdpCommand("Network.enable", Map.of());
+            ((HasCdp) driver).executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            log.debug("Blocked resource patterns: {}", patterns);
+        } catch (Exception e) {
+            log.warn("Failed to block resources over CDP: {}", e.getMessage());
+        }
+    }
+
+    private static Dimension getViewport(ConfigManager config) {
+        String viewport = config.getViewportSize();
+        try {
+            String[] parts = viewport.toLowerCase().split("x");
+            return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (RuntimeException e) {
+            throw new InvalidConfigException("Invalid browser.viewport '" + viewport + "', expected WIDTHxHEIGHT", e);
+        }
+    }
+
+    /**
+     * Attaches a new session to an already running local Chromium browser, e.g. a browser context host.
+     * The session shares the browser process, so window and cookie setup is left to the caller.
+     */
+    static WebDriver attachToBrowser(BrowserType browserType, String debuggerAddress) {
+        WebDriver driver;
+
+        switch (browserType) {
+            case CHROME:
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.setExperimentalOption("debuggerAddress", debuggerAddress);
+                driver = new ChromeDriver(chromeOptions);
+                break;
+
+            case EDGE:
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.setExperimentalOption("debuggerAddress", debuggerAddress);
+                driver = new EdgeDriver(edgeOptions);
+                break;
+
+            default:
+                throw new FrameworkException("Cannot attach to a running " + browserType + " browser");
+        }
+
+        configureTimeouts(driver, ConfigManager.getInstance());
+        return driver;
+    }
+
     private static void configureDriver(WebDriver driver, ConfigManager config) {
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(FrameworkConstants.DEFAULT_SCRIPT_TIMEOUT));
-        driver.manage().window().maximize();
+        configureTimeouts(driver, config);
+        configureWindow(driver, config);
         driver.manage().deleteAllCookies();
 
+        if (config.getBrowserProfile() == BrowserProfile.FAST) {
+            blockResources(driver, config);
+        }
+
         log.info("Driver configured with implicit wait: {}s, page load timeout: {}s",
                 config.getImplicitWait(), config.getPageLoadTimeout());
     }
+
+    static void configureWindow(WebDriver driver, ConfigManager config) {
+        if (config.getBrowserProfile() == BrowserProfile.FAST) {
+            driver.manage().window().setSize(getViewport(config));
+        } else {
+            driver.manage().window().maximize();
+        }
+    }
+
+    private static void configureTimeouts(WebDriver driver, ConfigManager config) {
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(FrameworkConstants.DEFAULT_SCRIPT_TIMEOUT));
+    }
 }
@@ -1,5 +1,8 @@
 package com.automation.driver;
 
+import com.automation.config.ConfigManager;
+import com.automation.enums.DriverMode;
+import com.automation.factory.WaitContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.WebDriver;
@@ -13,6 +16,13 @@ public class DriverManager {
     private static final Logger log = LoggerFactory.getLogger(DriverManager.class);
 
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<PooledDriver> leaseThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserContextHost.BrowserContextSession> contextThreadLocal = new ThreadLocal<>();
+
+    private static volatile DriverPool pool;
+    private static volatile DriverProvisioner provisioner;
+    private static volatile BrowserContextHost contextHost;
+    private static volatile DriverReaper reaper;
 
     private DriverManager() {
         // Private constructor
@@ -29,7 +39,24 @@ public class DriverManager {
 
     public static void initDriver() {
         if (driverThreadLocal.get() == null) {
-            WebDriver driver = DriverFactory.createDriver();
+            WebDriver driver;
+            switch (ConfigManager.getInstance().getDriverMode()) {
+                case POOLED:
+                    PooledDriver lease = getPool().lease();
+                    leaseThreadLocal.set(lease);
+                    driver = lease.getDriver();
+                    break;
+                case ASYNC:
+                    driver = getProvisioner().take();
+                    break;
+                case CONTEXT:
+                    BrowserContextHost.BrowserContextSession context = getContextHost().openContext();
+                    contextThreadLocal.set(context);
+                    driver = context.getDriver();
+                    break;
+                default:
+                    driver = DriverFactory.createDriver();
+            }
             setDriver(driver);
             log.info("WebDriver initialized for thread: {}", Thread.currentThread().getId());
         }
@@ -38,12 +65,25 @@ public class DriverManager {
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
+            PooledDriver lease = leaseThreadLocal.get();
+            BrowserContextHost.BrowserContextSession context = contextThreadLocal.get();
             try {
-                driver.quit();
-                log.info("WebDriver quit for thread: {}", Thread.currentThread().getId());
+                if (lease != null) {
+                    getPool().release(lease);
+                    log.info("WebDriver returned to pool for thread: {}", Thread.currentThread().getId());
+                } else if (context != null) {
+                    getContextHost().closeContext(context);
+                    log.info("Browser context closed for thread: {}", Thread.currentThread().getId());
+                } else {
+                    disposeDriver(driver);
+                    log.info("WebDriver quit for thread: {}", Thread.currentThread().getId());
+                }
             } catch (Exception e) {
                 log.error("Error quitting WebDriver: {}", e.getMessage());
             } finally {
+                WaitContext.invalidate();
+                leaseThreadLocal.remove();
+                contextThreadLocal.remove();
                 driverThreadLocal.remove();
             }
         }
@@ -52,4 +92,94 @@ public class DriverManager {
     public static boolean hasDriver() {
         return driverThreadLocal.get() != null;
     }
+
+    /**
+     * Pre-launches pooled sessions so the first tests of the suite lease warm browsers.
+     * No-op unless driver.mode=pooled.
+     */
+    public static void warmUp() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (config.getDriverMode() == DriverMode.POOLED && config.isDriverPoolWarmupEnabled()) {
+            getPool().warmUp(config.getDriverPoolSize());
+        }
+    }
+
+    /**
+     * Releases every session still held by the framework. Call once at suite end.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        if (provisioner != null) {
+            provisioner.shutdown();
+            provisioner = null;
+        }
+        if (contextHost != null) {
+            contextHost.shutdown();
+            contextHost = null;
+        }
+        if (reaper != null) {
+            reaper.awaitTermination();
+            reaper = null;
+        }
+        RemoteHttpClientFactory.shutdown();
+        SessionAdmissionController.shutdown();
+    }
+
+    /**
+     * Quits a session, on the reaper threads when driver.teardown.async=true, otherwise inline.
+     */
+    static void disposeDriver(WebDriver driver) {
+        if (ConfigManager.getInstance().isAsyncTeardownEnabled()) {
+            getReaper().dispose(driver);
+        } else {
+            driver.quit();
+        }
+    }
+
+    public static DriverPool getPool() {
+        if (pool == null) {
+            synchronized (DriverManager.class) {
+                if (pool == null) {
+                    pool = new DriverPool(ConfigManager.getInstance());
+                }
+            }
+        }
+        return pool;
+    }
+
+    public static DriverProvisioner getProvisioner() {
+        if (provisioner == null) {
+            synchronized (DriverManager.class) {
+                if (provisioner == null) {
+                    provisioner = new DriverProvisioner(ConfigManager.getInstance().getThreadCount());
+                }
+            }
+        }
+        return provisioner;
+    }
+
+    public static BrowserContextHost getContextHost() {
+        if (contextHost == null) {
+            synchronized (DriverManager.class) {
+                if (contextHost == null) {
+                    contextHost = new BrowserContextHost(ConfigManager.getInstance());
+                }
+            }
+        }
+        return contextHost;
+    }
+
+    public static DriverReaper getReaper() {
+        if (reaper == null) {
+            synchronized (DriverManager.class) {
+                if (reaper == null) {
+                    reaper = new DriverReaper(ConfigManager.getInstance());
+                }
+            }
+        }
+        return reaper;
+    }
 }
@@ -0,0 +1,355 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Driver Pool - Bounded pool of pre-warmed WebDriver sessions
+ * Sessions are leased per test and reset on return instead of being quit. Only Chromium sessions reached over CDP
+ * can be reset completely (cookies and all storage of every origin visited); others are retired after each lease.
+ */
+public class DriverPool {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverPool.class);
+
+    private final int size;
+    private final int maxUses;
+    private final long idleTimeoutMillis;
+    private final long leaseTimeoutMillis;
+    private final Supplier<WebDriver> launcher;
+
+    private final LinkedBlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Semaphore capacity;
+    private final ScheduledExecutorService evictor;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong launches = new AtomicLong();
+    private final AtomicLong launchMillis = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong resetFailures = new AtomicLong();
+    private final AtomicLong notResettable = new AtomicLong();
+
+    private volatile boolean closed;
+
+    DriverPool(ConfigManager config) {
+        this(config, DriverFactory::createDriver);
+    }
+
+    DriverPool(ConfigManager config, Supplier<WebDriver> launcher) {
+        this.launcher = launcher;
+        this.size = Math.max(1, config.getDriverPoolSize());
+        this.maxUses = Math.max(1, config.getDriverPoolMaxUses());
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDriverPoolIdleTimeout());
+        this.leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDriverPoolLeaseTimeout());
+        this.capacity = new Semaphore(size);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+
+        log.info("Driver pool created - size: {}, max uses: {}, idle timeout: {}s",
+                size, maxUses, config.getDriverPoolIdleTimeout());
+    }
+
+    /**
+     * Launches sessions in parallel until the pool holds {@code count} idle sessions.
+     */
+    public void warmUp(int count) {
+        int target = Math.min(count, size);
+        if (target <= 0) {
+            return;
+        }
+        ExecutorService launcher = Executors.newFixedThreadPool(target);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < target; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    if (capacity.tryAcquire()) {
+                        try {
+                            idle.offerLast(launch());
+                        } catch (RuntimeException e) {
+                            capacity.release();
+                            log.warn("Driver pool warm-up launch failed: {}", e.getMessage());
+                        }
+                    }
+                }, launcher));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            launcher.shutdown();
+        }
+        log.info("Driver pool warmed up with {} sessions", idle.size());
+    }
+
+    /**
+     * Leases a healthy session, launching a new one if the pool has spare capacity.
+     * Blocks up to the lease timeout when every session is in use.
+     */
+    PooledDriver lease() {
+        if (closed) {
+            throw new FrameworkException("Driver pool is closed");
+        }
+
+        PooledDriver pooled = pollHealthy();
+        if (pooled != null) {
+            hits.incrementAndGet();
+            pooled.markLeased();
+            return pooled;
+        }
+
+        misses.incrementAndGet();
+        if (capacity.tryAcquire()) {
+            return leaseNew();
+        }
+
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                PooledDriver returned = idle.pollFirst(250, TimeUnit.MILLISECONDS);
+                if (returned != null) {
+                    if (isUsable(returned)) {
+                        returned.markLeased();
+                        return returned;
+                    }
+                    discard(returned);
+                }
+                if (capacity.tryAcquire()) {
+                    return leaseNew();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for a pooled driver", e);
+        }
+
+        throw new FrameworkException("No pooled driver available within " + leaseTimeoutMillis + "ms (pool size: " + size + ")");
+    }
+
+    /**
+     * Returns a session to the pool after resetting it, or retires it once it has reached max uses or when it
+     * cannot be reset completely.
+     */
+    void release(PooledDriver pooled) {
+        if (closed || pooled.getUses() >= maxUses) {
+            log.debug("Retiring pooled driver after {} uses", pooled.getUses());
+            discard(pooled);
+            return;
+        }
+
+        if (!(pooled.getDriver() instanceof HasCdp)) {
+            if (notResettable.getAndIncrement() == 0) {
+                log.info("Pooled sessions without CDP cannot be fully reset and are retired after each lease");
+            }
+            discard(pooled);
+            return;
+        }
+
+        if (!reset(pooled.getDriver())) {
+            resetFailures.incrementAndGet();
+            discard(pooled);
+            return;
+        }
+
+        pooled.markReturned();
+        idle.offerFirst(pooled);
+    }
+
+    void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+        log.info("Driver pool shut down - {}", getStats());
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getLaunches() {
+        return launches.get();
+    }
+
+    public long getAverageLaunchMillis() {
+        long count = launches.get();
+        return count == 0 ? 0 : launchMillis.get() / count;
+    }
+
+    public String getStats() {
+        return String.format("hits: %d, misses: %d, launches: %d, avg launch: %dms, evictions: %d, "
+                        + "reset failures: %d, retired without CDP: %d, est. launch time saved: %ds",
+                hits.get(), misses.get(), launches.get(), getAverageLaunchMillis(), evictions.get(),
+                resetFailures.get(), notResettable.get(), hits.get() * getAverageLaunchMillis() / 1000);
+    }
+
+    private PooledDriver leaseNew() {
+        try {
+            PooledDriver pooled = launch();
+            pooled.markLeased();
+            return pooled;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private PooledDriver launch() {
+        long start = System.currentTimeMillis();
+        WebDriver driver = launcher.get();
+        long elapsed = System.currentTimeMillis() - start;
+        launches.incrementAndGet();
+        launchMillis.addAndGet(elapsed);
+        log.info("Pooled driver launched in {}ms", elapsed);
+        return new PooledDriver(driver);
+    }
+
+    private PooledDriver pollHealthy() {
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledDriver pooled) {
+        if (pooled.getIdleMillis() > idleTimeoutMillis) {
+            evictions.incrementAndGet();
+            log.debug("Evicting pooled driver idle for {}ms", pooled.getIdleMillis());
+            return false;
+        }
+        try {
+            pooled.getDriver().getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            log.warn("Pooled driver failed health check: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictIdle() {
+        Iterator<PooledDriver> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledDriver pooled = iterator.next();
+            if (pooled.getIdleMillis() > idleTimeoutMillis && idle.remove(pooled)) {
+                evictions.incrementAndGet();
+                discard(pooled);
+            }
+        }
+    }
+
+    /**
+     * Brings a session back to a clean state: a single new blank tab, so no session storage or navigation history
+     * survives, and no cookies or storage (local, IndexedDB, Cache Storage, service workers) for any origin visited.
+     * Visited origins come from the navigation history of every tab and the domains of every cookie in the browser.
+     */
+    private boolean reset(WebDriver driver) {
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            Set<String> used = driver.getWindowHandles();
+            for (String handle : used) {
+                driver.switchTo().window(handle);
+                addHistoryOrigins(cdp, origins);
+            }
+            addCookieOrigins(cdp, origins);
+
+            String fresh = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+            for (String handle : used) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(fresh);
+
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            DriverFactory.configureWindow(driver, ConfigManager.getInstance());
+            log.debug("Pooled driver reset; cleared storage for {} origin(s)", origins.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to reset pooled driver: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void addHistoryOrigins(HasCdp cdp, Set<String> origins) {
+        Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+        if (entries instanceof List) {
+            for (Object entry : (List<?>) entries) {
+                addOrigin(origins, String.valueOf(((Map<?, ?>) entry).get("url")));
+            }
+        }
+    }
+
+    private static void addCookieOrigins(HasCdp cdp, Set<String> origins) {
+        Object cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+        if (cookies instanceof List) {
+            for (Object cookie : (List<?>) cookies) {
+                String domain = String.valueOf(((Map<?, ?>) cookie).get("domain"));
+                String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                origins.add("http://" + host);
+                origins.add("https://" + host);
+            }
+        }
+    }
+
+    /**
+     * Adds the origin (scheme, host and any non-default port) of an http(s) URL; other URLs have no storage to clear.
+     */
+    static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring unparseable history URL during reset: {}", url);
+        }
+    }
+
+    private void discard(PooledDriver pooled) {
+        try {
+            DriverManager.disposeDriver(pooled.getDriver());
+        } catch (Exception e) {
+            log.error("Error quitting pooled driver: {}", e.getMessage());
+        } finally {
+            capacity.release();
+        }
+    }
+}
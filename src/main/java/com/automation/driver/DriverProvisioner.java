@@ -0,0 +1,122 @@
+package com.automation.driver;
+
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver Provisioner - Creates the next session for each test thread in the background
+ * While a test runs, its successor's browser is already booting on the provisioning executor
+ */
+public class DriverProvisioner {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverProvisioner.class);
+
+    private final ExecutorService executor;
+    private final ThreadLocal<CompletableFuture<WebDriver>> nextDriver = new ThreadLocal<>();
+    private final Set<CompletableFuture<WebDriver>> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong handoffs = new AtomicLong();
+    private final AtomicLong readyHandoffs = new AtomicLong();
+    private final AtomicLong waitMillis = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean closed;
+
+    DriverProvisioner(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "driver-provisioner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Driver provisioner started with {} threads", Math.max(1, threads));
+    }
+
+    /**
+     * Hands over the session provisioned for the calling thread and starts provisioning its successor.
+     * The first call on a thread has nothing pre-provisioned and waits for a fresh session.
+     */
+    WebDriver take() {
+        if (closed) {
+            throw new FrameworkException("Driver provisioner is closed");
+        }
+
+        CompletableFuture<WebDriver> future = nextDriver.get();
+        if (future == null) {
+            future = provision();
+        }
+        nextDriver.set(provision());
+
+        boolean ready = future.isDone();
+        long start = System.currentTimeMillis();
+        WebDriver driver;
+        try {
+            driver = future.join();
+        } catch (CompletionException e) {
+            failures.incrementAndGet();
+            log.warn("Background driver provisioning failed, creating synchronously: {}", e.getCause().getMessage());
+            driver = DriverFactory.createDriver();
+        } finally {
+            pending.remove(future);
+        }
+
+        handoffs.incrementAndGet();
+        if (ready) {
+            readyHandoffs.incrementAndGet();
+        }
+        waitMillis.addAndGet(System.currentTimeMillis() - start);
+        return driver;
+    }
+
+    /**
+     * Quits every session that was provisioned but never handed over.
+     */
+    void shutdown() {
+        closed = true;
+        for (CompletableFuture<WebDriver> future : pending) {
+            future.thenAccept(DriverProvisioner::quitQuietly);
+        }
+        pending.clear();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("Driver provisioner did not finish in-flight launches within 60s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Driver provisioner shut down - {}", getStats());
+    }
+
+    public String getStats() {
+        long count = handoffs.get();
+        return String.format("handoffs: %d, ready on handoff: %d, avg wait: %dms, background failures: %d",
+                count, readyHandoffs.get(), count == 0 ? 0 : waitMillis.get() / count, failures.get());
+    }
+
+    private CompletableFuture<WebDriver> provision() {
+        CompletableFuture<WebDriver> future = CompletableFuture.supplyAsync(DriverFactory::createDriver, executor);
+        pending.add(future);
+        return future;
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.error("Error quitting unused provisioned driver: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver Reaper - Quits WebDriver sessions off the test thread
+ * A bounded backlog applies backpressure (the caller quits inline when full) and hung quits are force-killed
+ */
+public class DriverReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverReaper.class);
+
+    private final ThreadPoolExecutor quitExecutor;
+    private final ScheduledExecutorService watchdog;
+    private final long quitTimeoutMillis;
+    private final Set<QuitTask> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong quitMillis = new AtomicLong();
+    private final AtomicLong inlineQuits = new AtomicLong();
+    private final AtomicLong inlineQuitMillis = new AtomicLong();
+    private final AtomicLong forcedKills = new AtomicLong();
+
+    DriverReaper(ConfigManager config) {
+        this.quitTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDriverQuitTimeout());
+
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(1, config.getDriverTeardownThreads());
+        this.quitExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getDriverTeardownBacklog())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "driver-reaper-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-reaper-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Driver reaper started - threads: {}, backlog: {}, quit timeout: {}s",
+                threads, config.getDriverTeardownBacklog(), config.getDriverQuitTimeout());
+    }
+
+    /**
+     * Schedules the session for quitting and returns immediately unless the backlog is full, in which case the
+     * session is quit on the calling thread.
+     */
+    void dispose(WebDriver driver) {
+        QuitTask task = new QuitTask(driver, localDriverPort(driver));
+        submitted.incrementAndGet();
+
+        inFlight.add(task);
+        try {
+            quitExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(task);
+            inlineQuits.incrementAndGet();
+            inlineQuitMillis.addAndGet(quit(driver));
+        }
+    }
+
+    /**
+     * Suite-end barrier: waits for every pending quit and force-kills whatever is still alive afterwards.
+     */
+    void awaitTermination() {
+        quitExecutor.shutdown();
+        try {
+            if (!quitExecutor.awaitTermination(quitTimeoutMillis + 5000, TimeUnit.MILLISECONDS)) {
+                log.warn("{} driver quits still pending at suite end, force-killing", inFlight.size());
+                quitExecutor.shutdownNow();
+                inFlight.forEach(task -> task.driverPort.ifPresent(this::forceKill));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            watchdog.shutdownNow();
+        }
+        log.info("Driver reaper drained - {}", getStats());
+    }
+
+    public long getAverageQuitMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : quitMillis.get() / count;
+    }
+
+    public String getStats() {
+        long inline = inlineQuits.get();
+        return String.format("quits: %d, moved off test thread: %d (avg %dms), "
+                        + "inline (backlog full): %d (avg %dms), force-killed: %d",
+                submitted.get(), completed.get(), getAverageQuitMillis(), inline,
+                inline == 0 ? 0 : inlineQuitMillis.get() / inline, forcedKills.get());
+    }
+
+    /**
+     * Quits the session and returns how long it took.
+     */
+    private long quit(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.error("Error quitting WebDriver: {}", e.getMessage());
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * A quit on a reaper thread. The quit timeout starts when the quit does, not while it waits in the backlog;
+     * past it the reaper thread is interrupted and the driver process force-killed. The task stays in flight
+     * until the quit has really returned, so the suite-end barrier keeps waiting for it.
+     */
+    private final class QuitTask implements Runnable {
+
+        private final WebDriver driver;
+        private final Optional<Integer> driverPort;
+
+        QuitTask(WebDriver driver, Optional<Integer> driverPort) {
+            this.driver = driver;
+            this.driverPort = driverPort;
+        }
+
+        @Override
+        public void run() {
+            Thread reaperThread = Thread.currentThread();
+            ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+                log.warn("Driver quit exceeded {}ms, force-killing driver process", quitTimeoutMillis);
+                reaperThread.interrupt();
+                driverPort.ifPresent(DriverReaper.this::forceKill);
+            }, quitTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                quitMillis.addAndGet(quit(driver));
+                completed.incrementAndGet();
+            } finally {
+                deadline.cancel(false);
+                inFlight.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Kills the local driver server listening on the port, together with the browser processes it spawned.
+     */
+    private void forceKill(int port) {
+        String portArgument = "--port=" + port;
+        ProcessHandle.current().descendants()
+                .filter(process -> process.info().arguments()
+                        .map(args -> Arrays.asList(args).contains(portArgument))
+                        .orElse(false))
+                .forEach(process -> {
+                    process.descendants().forEach(ProcessHandle::destroyForcibly);
+                    process.destroyForcibly();
+                    forcedKills.incrementAndGet();
+                    log.warn("Force-killed driver process {} on port {}", process.pid(), port);
+                });
+    }
+
+    private static Optional<Integer> localDriverPort(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+            if (executor instanceof HttpCommandExecutor) {
+                String host = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getHost();
+                if ("localhost".equals(host) || "127.0.0.1".equals(host)) {
+                    return Optional.of(((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
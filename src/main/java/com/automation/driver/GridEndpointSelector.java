@@ -0,0 +1,224 @@
+package com.automation.driver;
+
+import com.automation.exceptions.InvalidConfigException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Grid Endpoint Selector - Ranks Selenium Grid hubs by live load for session placement
+ * Load is read from each hub's /status (slots in use) and /graphql (session queue) endpoints
+ */
+public class GridEndpointSelector {
+
+    private static final Logger log = LoggerFactory.getLogger(GridEndpointSelector.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String QUEUE_QUERY = "{\"query\":\"{ grid { sessionQueueSize } }\"}";
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ExecutorService refreshExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "grid-status-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<GridEndpoint> endpoints = new ArrayList<>();
+    private final long statusTtlMillis;
+    private final long cooldownMillis;
+    private final HttpClient httpClient;
+
+    public GridEndpointSelector(List<String> remoteUrls, long statusTtlMillis, long cooldownMillis) {
+        if (remoteUrls.isEmpty()) {
+            throw new InvalidConfigException("At least one grid endpoint is required");
+        }
+        for (String remoteUrl : remoteUrls) {
+            try {
+                endpoints.add(new GridEndpoint(URI.create(remoteUrl).toURL()));
+            } catch (MalformedURLException | IllegalArgumentException e) {
+                throw new InvalidConfigException("Invalid remote URL: " + remoteUrl, e);
+            }
+        }
+        this.statusTtlMillis = statusTtlMillis;
+        this.cooldownMillis = cooldownMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    /**
+     * Returns endpoints from least to most loaded. Endpoints that are down, not ready or unreachable
+     * are kept at the end so they still serve as a last resort.
+     */
+    public List<GridEndpoint> rank() {
+        refreshStale();
+        List<GridEndpoint> ranked = new ArrayList<>(endpoints);
+        ranked.sort(Comparator.comparing(GridEndpoint::isAvailable).reversed()
+                .thenComparingDouble(GridEndpoint::getLoad));
+        return ranked;
+    }
+
+    /**
+     * Takes an endpoint out of rotation for the cooldown period after it refused a session.
+     */
+    public void markDown(GridEndpoint endpoint) {
+        endpoint.downUntil = System.currentTimeMillis() + cooldownMillis;
+        endpoint.refreshedAt = 0;
+        log.warn("Grid endpoint {} marked down for {}ms", endpoint.getUrl(), cooldownMillis);
+    }
+
+    /**
+     * Counts a session just created on the endpoint, so callers ranking before the next status refresh see it.
+     */
+    public void recordPlacement(GridEndpoint endpoint) {
+        endpoint.activeSessions.incrementAndGet();
+    }
+
+    public List<GridEndpoint> getEndpoints() {
+        return List.copyOf(endpoints);
+    }
+
+    private void refreshStale() {
+        long now = System.currentTimeMillis();
+        List<CompletableFuture<Void>> refreshes = new ArrayList<>();
+        for (GridEndpoint endpoint : endpoints) {
+            if (now - endpoint.refreshedAt > statusTtlMillis) {
+                refreshes.add(refreshOnce(endpoint));
+            }
+        }
+        CompletableFuture.allOf(refreshes.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    /**
+     * Starts a status refresh of the endpoint unless one is already running, in which case callers share it.
+     */
+    private CompletableFuture<Void> refreshOnce(GridEndpoint endpoint) {
+        synchronized (endpoint) {
+            if (endpoint.refreshing == null || endpoint.refreshing.isDone()) {
+                endpoint.refreshing = CompletableFuture.runAsync(() -> refresh(endpoint), refreshExecutor);
+            }
+            return endpoint.refreshing;
+        }
+    }
+
+    private void refresh(GridEndpoint endpoint) {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(endpoint.baseUri.resolve("/status"))
+                            .timeout(Duration.ofSeconds(2))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode value = MAPPER.readTree(response.body()).path("value");
+
+            int capacity = 0;
+            int active = 0;
+            for (JsonNode node : value.path("nodes")) {
+                if (!"UP".equalsIgnoreCase(node.path("availability").asText("UP"))) {
+                    continue;
+                }
+                for (JsonNode slot : node.path("slots")) {
+                    capacity++;
+                    if (!slot.path("session").isMissingNode() && !slot.path("session").isNull()) {
+                        active++;
+                    }
+                }
+            }
+
+            endpoint.ready = response.statusCode() == 200 && value.path("ready").asBoolean(false);
+            endpoint.capacity = capacity;
+            endpoint.activeSessions.set(active);
+            endpoint.queuedSessions = fetchQueueSize(endpoint);
+        } catch (Exception e) {
+            endpoint.ready = false;
+            log.debug("Grid endpoint {} status unavailable: {}", endpoint.getUrl(), e.getMessage());
+        } finally {
+            endpoint.refreshedAt = System.currentTimeMillis();
+        }
+    }
+
+    private int fetchQueueSize(GridEndpoint endpoint) {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(endpoint.baseUri.resolve("/graphql"))
+                            .timeout(Duration.ofSeconds(2))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(QUEUE_QUERY))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return 0;
+            }
+            return MAPPER.readTree(response.body()).path("data").path("grid").path("sessionQueueSize").asInt(0);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * A grid hub and its most recently observed load
+     */
+    public static class GridEndpoint {
+
+        private final URL url;
+        private final URI baseUri;
+
+        private volatile boolean ready;
+        private volatile int capacity;
+        private final AtomicInteger activeSessions = new AtomicInteger();
+        private volatile int queuedSessions;
+        private volatile long refreshedAt;
+        private volatile long downUntil;
+        private CompletableFuture<Void> refreshing;
+
+        GridEndpoint(URL url) {
+            this.url = url;
+            this.baseUri = URI.create(url.getProtocol() + "://" + url.getAuthority());
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        public boolean isAvailable() {
+            return ready && capacity > 0 && System.currentTimeMillis() >= downUntil;
+        }
+
+        /**
+         * Sessions running plus queued, relative to slot capacity.
+         */
+        public double getLoad() {
+            return capacity == 0 ? Double.MAX_VALUE : (activeSessions.get() + queuedSessions) / (double) capacity;
+        }
+
+        public int getActiveSessions() {
+            return activeSessions.get();
+        }
+
+        public int getQueuedSessions() {
+            return queuedSessions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (ready: %s, active: %d, queued: %d, slots: %d)",
+                    url, ready, activeSessions.get(), queuedSessions, capacity);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.automation.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Pooled Driver - A WebDriver session owned by the DriverPool plus its usage bookkeeping
+ */
+class PooledDriver {
+
+    private final WebDriver driver;
+    private final long createdAt;
+    private int uses;
+    private long lastReturnedAt;
+
+    PooledDriver(WebDriver driver) {
+        this.driver = driver;
+        this.createdAt = System.currentTimeMillis();
+        this.lastReturnedAt = createdAt;
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    int getUses() {
+        return uses;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    void markLeased() {
+        uses++;
+    }
+
+    void markReturned() {
+        lastReturnedAt = System.currentTimeMillis();
+    }
+
+    long getIdleMillis() {
+        return System.currentTimeMillis() - lastReturnedAt;
+    }
+}
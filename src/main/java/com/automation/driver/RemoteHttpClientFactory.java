@@ -0,0 +1,134 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remote HTTP Client Factory - One tuned, shared HTTP client per grid endpoint for all RemoteWebDriver sessions
+ * Sessions reuse pooled keep-alive connections and a single client executor instead of one client per session
+ */
+public class RemoteHttpClientFactory implements HttpClient.Factory {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteHttpClientFactory.class);
+
+    private static volatile RemoteHttpClientFactory instance;
+
+    private final HttpClient.Factory delegate = HttpClient.Factory.createDefault();
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+    private final CommandLatencyMetrics metrics = new CommandLatencyMetrics();
+    private final ConfigManager config;
+
+    private RemoteHttpClientFactory(ConfigManager config) {
+        this.config = config;
+        // Read once by the JDK HTTP client when its connection pool is first initialised
+        setDefaultProperty("jdk.httpclient.connectionPoolSize", String.valueOf(config.getRemoteHttpPoolSize()));
+        setDefaultProperty("jdk.httpclient.keepalive.timeout", String.valueOf(config.getRemoteHttpKeepAlive()));
+    }
+
+    public static RemoteHttpClientFactory getInstance() {
+        if (instance == null) {
+            synchronized (RemoteHttpClientFactory.class) {
+                if (instance == null) {
+                    instance = new RemoteHttpClientFactory(ConfigManager.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Client settings applied to every remote session: timeouts and HTTP version from configuration.
+     */
+    public ClientConfig clientConfig(URL remoteUrl) {
+        return ClientConfig.defaultConfig()
+                .baseUrl(remoteUrl)
+                .connectionTimeout(Duration.ofSeconds(config.getRemoteHttpConnectTimeout()))
+                .readTimeout(Duration.ofSeconds(config.getRemoteHttpReadTimeout()))
+                .version(config.getRemoteHttpVersion());
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig clientConfig) {
+        String key = clientConfig.baseUri().toString();
+        return clients.computeIfAbsent(key, url -> {
+            log.info("Creating shared remote HTTP client for {} ({})", url, clientConfig.version());
+            return new SharedClient(delegate.createClient(clientConfig), metrics);
+        });
+    }
+
+    public CommandLatencyMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Logs per-command latencies and closes the shared clients. Call once at suite end.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            log.info("Remote command latencies:{}{}", System.lineSeparator(), instance.metrics.getSummary());
+            instance.clients.values().forEach(client -> ((SharedClient) client).delegate.close());
+            instance.clients.clear();
+            instance = null;
+        }
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Times every command and ignores close() - HttpCommandExecutor closes its client on quit,
+     * but the underlying connection pool must outlive individual sessions.
+     */
+    private static class SharedClient implements HttpClient {
+
+        private final HttpClient delegate;
+        private final CommandLatencyMetrics metrics;
+
+        SharedClient(HttpClient delegate, CommandLatencyMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            long start = System.nanoTime();
+            try {
+                return delegate.execute(request);
+            } finally {
+                metrics.record(request.getMethod().name(), request.getUri(), System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+            long start = System.nanoTime();
+            return delegate.executeAsync(request).whenComplete((response, error) ->
+                    metrics.record(request.getMethod().name(), request.getUri(), System.nanoTime() - start));
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Shared across sessions; closed by RemoteHttpClientFactory.shutdown()
+        }
+    }
+}
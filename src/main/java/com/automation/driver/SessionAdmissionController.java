@@ -0,0 +1,211 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.exceptions.SessionAdmissionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Session Admission Controller - Limits concurrent session creations and trips a circuit breaker on repeated failures
+ * Callers queue for a creation slot up to a deadline; while the circuit is open they fail fast with the last cause
+ */
+public class SessionAdmissionController {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionAdmissionController.class);
+
+    private static volatile SessionAdmissionController instance;
+
+    private static final long QUEUE_POLL_MILLIS = 100;
+
+    private enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final int maxInFlight;
+    private final long queueTimeoutMillis;
+    private final int failureThreshold;
+    private final long cooldownMillis;
+    private final Semaphore slots;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+    private RuntimeException lastFailure;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong queueWaitMillis = new AtomicLong();
+    private final LongAccumulator maxQueueWaitMillis = new LongAccumulator(Long::max, 0);
+    private final AtomicLong queueTimeouts = new AtomicLong();
+    private final AtomicLong rejectedOpen = new AtomicLong();
+    private final AtomicInteger circuitOpens = new AtomicInteger();
+
+    SessionAdmissionController(ConfigManager config) {
+        this.maxInFlight = Math.max(1, config.getSessionMaxInFlight());
+        this.queueTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getSessionQueueTimeout());
+        this.failureThreshold = Math.max(1, config.getSessionCircuitFailures());
+        this.cooldownMillis = TimeUnit.SECONDS.toMillis(config.getSessionCircuitCooldown());
+        this.slots = new Semaphore(maxInFlight, true);
+    }
+
+    public static SessionAdmissionController getInstance() {
+        if (instance == null) {
+            synchronized (SessionAdmissionController.class) {
+                if (instance == null) {
+                    instance = new SessionAdmissionController(ConfigManager.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Runs the session creation once a slot is free, recording the outcome for the circuit breaker.
+     */
+    public <T> T admit(Supplier<T> creation) {
+        boolean probe = enter();
+
+        long waitStart = System.currentTimeMillis();
+        try {
+            awaitSlot(probe, waitStart + queueTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseProbe(probe);
+            throw new SessionAdmissionException("Interrupted while waiting for a session creation slot", e);
+        }
+
+        long waited = System.currentTimeMillis() - waitStart;
+        admitted.incrementAndGet();
+        queueWaitMillis.addAndGet(waited);
+        maxQueueWaitMillis.accumulate(waited);
+
+        boolean settled = false;
+        try {
+            if (!probe) {
+                // The circuit may have opened while this caller was queued
+                checkOpen();
+            }
+            T result = creation.get();
+            onSuccess();
+            settled = true;
+            return result;
+        } catch (SessionAdmissionException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            onFailure(e);
+            settled = true;
+            throw e;
+        } finally {
+            if (!settled) {
+                // An Error or rejection left the outcome unrecorded; free the probe so the next caller can try
+                releaseProbe(probe);
+            }
+            slots.release();
+        }
+    }
+
+    public long getAverageQueueWaitMillis() {
+        long count = admitted.get();
+        return count == 0 ? 0 : queueWaitMillis.get() / count;
+    }
+
+    public String getStats() {
+        return String.format("admitted: %d, avg queue wait: %dms, max queue wait: %dms, queue timeouts: %d, "
+                        + "rejected (circuit open): %d, circuit opened: %d times",
+                admitted.get(), getAverageQueueWaitMillis(), maxQueueWaitMillis.get(), queueTimeouts.get(),
+                rejectedOpen.get(), circuitOpens.get());
+    }
+
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            log.info("Session admission - {}", instance.getStats());
+            instance = null;
+        }
+    }
+
+    /**
+     * Waits for a creation slot in short slices, re-checking the circuit between them so queued callers fail
+     * as soon as it opens instead of waiting out the whole queue timeout.
+     */
+    private void awaitSlot(boolean probe, long deadline) throws InterruptedException {
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                queueTimeouts.incrementAndGet();
+                releaseProbe(probe);
+                throw new SessionAdmissionException(String.format(
+                        "Timed out after %dms waiting for a session creation slot (%d creations in flight)",
+                        queueTimeoutMillis, maxInFlight));
+            }
+            if (slots.tryAcquire(Math.min(remaining, QUEUE_POLL_MILLIS), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            if (!probe) {
+                checkOpen();
+            }
+        }
+    }
+
+    /**
+     * Returns true when this caller is the single half-open probe allowed through after the cooldown.
+     */
+    private synchronized boolean enter() {
+        if (state == CircuitState.OPEN && System.currentTimeMillis() - openedAt >= cooldownMillis) {
+            state = CircuitState.HALF_OPEN;
+            log.info("Session circuit half-open, allowing a probe session");
+        }
+        if (state == CircuitState.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        checkOpen();
+        return false;
+    }
+
+    private synchronized void checkOpen() {
+        if (state != CircuitState.CLOSED) {
+            rejectedOpen.incrementAndGet();
+            long retryIn = Math.max(0, cooldownMillis - (System.currentTimeMillis() - openedAt));
+            throw new SessionAdmissionException(String.format(
+                    "Session creation circuit is open after %d consecutive failures; retry in %dms. Last cause: %s",
+                    consecutiveFailures, retryIn, lastFailure == null ? "unknown" : lastFailure.getMessage()),
+                    lastFailure);
+        }
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != CircuitState.CLOSED) {
+            log.info("Session circuit closed after successful probe");
+        }
+        state = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        lastFailure = null;
+    }
+
+    private synchronized void onFailure(RuntimeException failure) {
+        consecutiveFailures++;
+        lastFailure = failure;
+        probeInFlight = false;
+        if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != CircuitState.OPEN) {
+                circuitOpens.incrementAndGet();
+            }
+            state = CircuitState.OPEN;
+            openedAt = System.currentTimeMillis();
+            log.error("Session circuit opened after {} consecutive failures, cooling down for {}ms: {}",
+                    consecutiveFailures, cooldownMillis, failure.getMessage());
+        }
+    }
+}
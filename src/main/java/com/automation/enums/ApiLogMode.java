@@ -0,0 +1,21 @@
+package com.automation.enums;
+
+/**
+ * API logging modes - which request/response exchanges ApiClient writes to the log
+ */
+public enum ApiLogMode {
+    OFF("off"),
+    ALL("all"),
+    ON_FAILURE("on_failure"),
+    SAMPLED("sampled");
+
+    private final String modeName;
+
+    ApiLogMode(String modeName) {
+        this.modeName = modeName;
+    }
+
+    public String getModeName() {
+        return modeName;
+    }
+}
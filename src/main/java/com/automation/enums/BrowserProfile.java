@@ -0,0 +1,20 @@
+package com.automation.enums;
+
+/**
+ * Browser launch profiles
+ * FAST trades rendering fidelity for startup time and memory: no images/fonts/media, no background services, fixed viewport
+ */
+public enum BrowserProfile {
+    DEFAULT("default"),
+    FAST("fast");
+
+    private final String profileName;
+
+    BrowserProfile(String profileName) {
+        this.profileName = profileName;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+}
@@ -0,0 +1,21 @@
+package com.automation.enums;
+
+/**
+ * Driver lifecycle modes - how DriverManager provisions a session per test
+ */
+public enum DriverMode {
+    DIRECT("direct"),
+    POOLED("pooled"),
+    ASYNC("async"),
+    CONTEXT("context");
+
+    private final String modeName;
+
+    DriverMode(String modeName) {
+        this.modeName = modeName;
+    }
+
+    public String getModeName() {
+        return modeName;
+    }
+}
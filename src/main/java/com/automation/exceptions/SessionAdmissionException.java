@@ -0,0 +1,15 @@
+package com.automation.exceptions;
+
+/**
+ * Exception for driver sessions refused by admission control (creation queue timeout or open circuit)
+ */
+public class SessionAdmissionException extends FrameworkException {
+
+    public SessionAdmissionException(String message) {
+        super(message);
+    }
+
+    public SessionAdmissionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,236 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import com.automation.constants.FrameworkConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Adaptive Poller - Builds polling waits that start with short intervals and back off exponentially
+ * The first interval follows the typical appearance time learned per locator, optionally persisted across runs
+ */
+public final class AdaptivePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoller.class);
+
+    /**
+     * Weight of the newest observation in the per-locator moving average
+     */
+    private static final double LEARNING_RATE = 0.3;
+
+    private static final Map<String, Long> typicalMillis = new ConcurrentHashMap<>();
+    private static volatile boolean historyLoaded;
+
+    private AdaptivePoller() {
+        // Private constructor
+    }
+
+    /**
+     * Creates a wait for the timeout. The key identifies what is awaited (usually the locator) and may be null.
+     */
+    public static WebDriverWait newWait(WebDriver driver, Duration timeout, String key) {
+        return newWait(WaitContext.of(driver), timeout, key);
+    }
+
+    static WebDriverWait newWait(WaitContext context, Duration timeout, String key) {
+        if (!context.isAdaptivePolling()) {
+            return new WebDriverWait(context.getDriver(), timeout,
+                    Duration.ofMillis(FrameworkConstants.POLLING_INTERVAL));
+        }
+        BackoffSleeper sleeper = newSleeper(context);
+        sleeper.reset(key, System.currentTimeMillis() + timeout.toMillis());
+        return new WebDriverWait(context.getDriver(), timeout, Duration.ofMillis(sleeper.minMillis),
+                Clock.systemDefaultZone(), sleeper);
+    }
+
+    /**
+     * Creates a wait that can be reused for any number of sequential waits on one thread.
+     */
+    public static PollingWait newPollingWait(WebDriver driver, Duration timeout) {
+        return newPollingWait(WaitContext.of(driver), timeout);
+    }
+
+    static PollingWait newPollingWait(WaitContext context, Duration timeout) {
+        WebDriver driver = context.getDriver();
+        if (!context.isAdaptivePolling()) {
+            return new PollingWait(context, timeout, null,
+                    new WebDriverWait(driver, timeout, Duration.ofMillis(FrameworkConstants.POLLING_INTERVAL)));
+        }
+        BackoffSleeper sleeper = newSleeper(context);
+        return new PollingWait(context, timeout, sleeper,
+                new WebDriverWait(driver, timeout, Duration.ofMillis(sleeper.minMillis), Clock.systemDefaultZone(),
+                        sleeper));
+    }
+
+    private static BackoffSleeper newSleeper(WaitContext context) {
+        loadHistory();
+        return new BackoffSleeper(context.getPollingMinMillis(), context.getPollingMaxMillis());
+    }
+
+    /**
+     * Records how long a keyed wait took to succeed.
+     */
+    public static void record(String key, long elapsedMillis) {
+        if (key == null) {
+            return;
+        }
+        typicalMillis.merge(key, elapsedMillis,
+                (previous, latest) -> Math.round(previous * (1 - LEARNING_RATE) + latest * LEARNING_RATE));
+    }
+
+    public static Long getTypicalMillis(String key) {
+        return typicalMillis.get(key);
+    }
+
+    /**
+     * Writes the learned appearance times to the configured history file, if any. Call once at suite end.
+     */
+    public static synchronized void saveHistory() {
+        String location = ConfigManager.getInstance().getPollingHistoryPath();
+        if (location.isBlank() || typicalMillis.isEmpty()) {
+            return;
+        }
+        Path historyFile = Paths.get(location);
+        Properties history = new Properties();
+        typicalMillis.forEach((key, millis) -> history.setProperty(key, String.valueOf(millis)));
+        try {
+            Path parent = historyFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "wait-history", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                history.store(out, "Typical wait times per locator (ms)");
+            }
+            Files.move(tmp, historyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} learned wait times to {}", history.size(), historyFile);
+        } catch (IOException e) {
+            log.warn("Failed to write wait history {}: {}", historyFile, e.getMessage());
+        }
+    }
+
+    private static long firstInterval(String key, long minMillis, long maxMillis) {
+        Long typical = key == null ? null : typicalMillis.get(key);
+        if (typical == null) {
+            return minMillis;
+        }
+        // The condition is checked once before the first sleep, so the second check lands near the typical time
+        return Math.min(maxMillis, Math.max(minMillis, typical));
+    }
+
+    private static void loadHistory() {
+        if (historyLoaded) {
+            return;
+        }
+        synchronized (AdaptivePoller.class) {
+            if (historyLoaded) {
+                return;
+            }
+            String location = ConfigManager.getInstance().getPollingHistoryPath();
+            Path historyFile = location.isBlank() ? null : Paths.get(location);
+            if (historyFile != null && Files.exists(historyFile)) {
+                Properties history = new Properties();
+                try (InputStream in = Files.newInputStream(historyFile)) {
+                    history.load(in);
+                    history.stringPropertyNames().forEach(key ->
+                            typicalMillis.putIfAbsent(key, Long.parseLong(history.getProperty(key))));
+                    log.info("Loaded {} learned wait times from {}", history.size(), historyFile);
+                } catch (IOException | NumberFormatException e) {
+                    log.warn("Failed to read wait history {}: {}", historyFile, e.getMessage());
+                }
+            }
+            historyLoaded = true;
+        }
+    }
+
+    /**
+     * A WebDriverWait and its sleeper, re-armed for each wait instead of reallocated. Not shared between threads.
+     */
+    public static final class PollingWait {
+
+        private final WaitContext context;
+        private final Duration timeout;
+        private final BackoffSleeper sleeper;
+        private final WebDriverWait wait;
+        private boolean inUse;
+
+        private PollingWait(WaitContext context, Duration timeout, BackoffSleeper sleeper, WebDriverWait wait) {
+            this.context = context;
+            this.timeout = timeout;
+            this.sleeper = sleeper;
+            this.wait = wait;
+        }
+
+        public <T> T until(String key, Function<? super WebDriver, T> condition) {
+            if (inUse) {
+                // A condition that itself waits; the outer wait's sleeper state must not be disturbed
+                return newWait(context, timeout, key).until(condition);
+            }
+            inUse = true;
+            try {
+                if (sleeper != null) {
+                    sleeper.reset(key, System.currentTimeMillis() + timeout.toMillis());
+                }
+                return wait.until(condition);
+            } finally {
+                inUse = false;
+            }
+        }
+    }
+
+    /**
+     * Ignores the fixed interval FluentWait passes in: sleeps the first interval, then doubles from the minimum
+     * up to the maximum, never past the wait deadline.
+     */
+    private static class BackoffSleeper implements Sleeper {
+
+        private final long minMillis;
+        private final long maxMillis;
+        private long firstMillis;
+        private long deadlineMillis;
+        private long nextMillis;
+        private boolean first;
+
+        BackoffSleeper(long minMillis, long maxMillis) {
+            this.minMillis = minMillis;
+            this.maxMillis = maxMillis;
+        }
+
+        void reset(String key, long deadlineMillis) {
+            this.firstMillis = firstInterval(key, minMillis, maxMillis);
+            this.deadlineMillis = deadlineMillis;
+            this.nextMillis = minMillis;
+            this.first = true;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long interval;
+            if (first) {
+                first = false;
+                interval = firstMillis;
+                nextMillis = Math.min(maxMillis, Math.max(nextMillis, firstMillis) * 2);
+            } else {
+                interval = nextMillis;
+                nextMillis = Math.min(maxMillis, nextMillis * 2);
+            }
+            long untilDeadline = deadlineMillis - System.currentTimeMillis();
+            Thread.sleep(Math.max(1, Math.min(interval, untilDeadline)));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.automation.factory;
+
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Composite Wait - Waits on several element conditions at once and reports which of them fired
+ * All conditions are evaluated together in one script call per poll, or resolved in the page when event-driven
+ */
+public final class CompositeWait {
+
+    private static final Logger log = LoggerFactory.getLogger(CompositeWait.class);
+
+    private static final long SLICE_MILLIS = 5000;
+
+    /**
+     * How the conditions combine: every one, any number of them, or the first in declaration order
+     */
+    public enum Mode {
+        ALL_OF("all"),
+        ANY_OF("any"),
+        FIRST_OF("first");
+
+        private final String scriptName;
+
+        Mode(String scriptName) {
+            this.scriptName = scriptName;
+        }
+    }
+
+    private static final String MATCH_FUNCTION = """
+            function __match(conditions, mode) {
+              var matched = [];
+              for (var i = 0; i < conditions.length; i++) {
+                if (__check(conditions[i])) {
+                  matched.push(i);
+                  if (mode === 'first') { return matched; }
+                } else if (mode === 'all') {
+                  return null;
+                }
+              }
+              return matched.length > 0 ? matched : null;
+            }
+            """;
+
+    private static final String MATCH_SCRIPT = EventDrivenWait.LOCATOR_FUNCTIONS + MATCH_FUNCTION
+            + "return __match(arguments[0], arguments[1]);";
+
+    private static final String OBSERVE_SCRIPT = EventDrivenWait.LOCATOR_FUNCTIONS + MATCH_FUNCTION
+            + EventDrivenWait.OBSERVE_FUNCTION + """
+            var conditions = arguments[0], mode = arguments[1];
+            __observe(function () { return __match(conditions, mode); },
+                arguments[2], arguments[arguments.length - 1]);
+            """;
+
+    private CompositeWait() {
+        // Private constructor
+    }
+
+    /**
+     * Waits until the conditions hold in the given mode and returns the ones that fired.
+     */
+    public static Result until(WebDriver driver, Mode mode, List<ElementCondition> conditions, Duration timeout) {
+        if (conditions.isEmpty()) {
+            throw new FrameworkException("A composite wait needs at least one condition");
+        }
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        WaitContext context = WaitContext.of(driver);
+
+        boolean inPage = driver instanceof JavascriptExecutor
+                && conditions.stream().allMatch(c -> c.getLocator() instanceof By.Remotable);
+        if (!inPage) {
+            return ImplicitWaitController.withoutImplicitWait(driver, () ->
+                    poll(context, deadline, d -> matchWithWebDriver(d, mode, conditions), conditions, mode));
+        }
+
+        List<Map<String, Object>> arguments = conditions.stream()
+                .map(ElementCondition::toScriptArgument)
+                .collect(Collectors.toList());
+        if (context.isEventDriven()) {
+            Result result = observe(driver, mode, conditions, arguments, deadline);
+            if (result != null) {
+                return result;
+            }
+        }
+        return poll(context, deadline, d -> matchInPage(d, mode, conditions, arguments), conditions, mode);
+    }
+
+    /**
+     * Resolves in the page; returns null if the page could not evaluate the conditions and polling should take over.
+     */
+    private static Result observe(WebDriver driver, Mode mode, List<ElementCondition> conditions,
+                                  List<Map<String, Object>> arguments, long deadline) {
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw timeout(mode, conditions);
+            }
+
+            Object signal;
+            try {
+                signal = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE_SCRIPT, arguments,
+                        mode.scriptName, Math.min(remaining, SLICE_MILLIS));
+            } catch (WebDriverException e) {
+                log.debug("Composite wait interrupted, polling instead: {}", e.getMessage());
+                return null;
+            }
+
+            if (signal instanceof List) {
+                return toResult(conditions, (List<?>) signal);
+            }
+            if (signal != null) {
+                log.debug("Composite wait unavailable in page, polling instead: {}", signal);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Polls with the minimum interval first; composite waits are not learned, so they have no history key.
+     */
+    private static Result poll(WaitContext context, long deadline, Function<WebDriver, Result> match,
+                               List<ElementCondition> conditions, Mode mode) {
+        long remaining = Math.max(0, deadline - System.currentTimeMillis());
+        try {
+            return AdaptivePoller.newWait(context, Duration.ofMillis(remaining), null)
+                    .ignoring(JavascriptException.class)
+                    .until(match);
+        } catch (TimeoutException e) {
+            throw timeout(mode, conditions);
+        }
+    }
+
+    private static Result matchInPage(WebDriver driver, Mode mode, List<ElementCondition> conditions,
+                                      List<Map<String, Object>> arguments) {
+        Object matched = ((JavascriptExecutor) driver).executeScript(MATCH_SCRIPT, arguments, mode.scriptName);
+        return matched instanceof List ? toResult(conditions, (List<?>) matched) : null;
+    }
+
+    private static Result matchWithWebDriver(WebDriver driver, Mode mode, List<ElementCondition> conditions) {
+        List<Integer> matched = new ArrayList<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            if (holds(driver, conditions.get(i))) {
+                matched.add(i);
+                if (mode == Mode.FIRST_OF) {
+                    break;
+                }
+            } else if (mode == Mode.ALL_OF) {
+                return null;
+            }
+        }
+        return matched.isEmpty() ? null : toResult(conditions, matched);
+    }
+
+    private static boolean holds(WebDriver driver, ElementCondition condition) {
+        try {
+            Object value = condition.toExpectedCondition().apply(driver);
+            return value != null && !Boolean.FALSE.equals(value);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    private static Result toResult(List<ElementCondition> conditions, List<?> indices) {
+        List<ElementCondition> matched = new ArrayList<>();
+        for (Object index : indices) {
+            matched.add(conditions.get(((Number) index).intValue()));
+        }
+        return new Result(matched);
+    }
+
+    private static TimeoutException timeout(Mode mode, List<ElementCondition> conditions) {
+        return new TimeoutException(String.format("Expected condition failed: waiting for %s %s",
+                mode.name().toLowerCase().replace('_', ' '), conditions));
+    }
+
+    /**
+     * The conditions that held when the wait completed, in declaration order
+     */
+    public static class Result {
+
+        private final List<ElementCondition> matched;
+
+        Result(List<ElementCondition> matched) {
+            this.matched = Collections.unmodifiableList(matched);
+        }
+
+        public List<ElementCondition> getMatched() {
+            return matched;
+        }
+
+        public ElementCondition getFirstMatched() {
+            return matched.get(0);
+        }
+
+        public boolean isMatched(ElementCondition condition) {
+            return matched.contains(condition);
+        }
+
+        @Override
+        public String toString() {
+            return "matched " + matched;
+        }
+    }
+}
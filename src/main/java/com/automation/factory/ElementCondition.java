@@ -0,0 +1,100 @@
+package com.automation.factory;
+
+import com.automation.exceptions.FrameworkException;
+import com.automation.factory.EventDrivenWait.Condition;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Element Condition - One locator and the state it is awaited in, for composite waits
+ */
+public final class ElementCondition {
+
+    private final By locator;
+    private final Condition condition;
+    private final Object expected;
+
+    private ElementCondition(By locator, Condition condition, Object expected) {
+        this.locator = locator;
+        this.condition = condition;
+        this.expected = expected;
+    }
+
+    public static ElementCondition present(By locator) {
+        return new ElementCondition(locator, Condition.PRESENCE, null);
+    }
+
+    public static ElementCondition visible(By locator) {
+        return new ElementCondition(locator, Condition.VISIBLE, null);
+    }
+
+    public static ElementCondition clickable(By locator) {
+        return new ElementCondition(locator, Condition.CLICKABLE, null);
+    }
+
+    public static ElementCondition invisible(By locator) {
+        return new ElementCondition(locator, Condition.INVISIBLE, null);
+    }
+
+    public static ElementCondition text(By locator, String text) {
+        return new ElementCondition(locator, Condition.TEXT, text);
+    }
+
+    public static ElementCondition count(By locator, int count) {
+        return new ElementCondition(locator, Condition.COUNT, count);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * The condition as evaluated by the in-page script.
+     */
+    Map<String, Object> toScriptArgument() {
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        Map<String, Object> argument = new LinkedHashMap<>();
+        argument.put("using", parameters.using());
+        argument.put("value", parameters.value());
+        argument.put("kind", condition.getScriptName());
+        argument.put("expected", expected);
+        return argument;
+    }
+
+    /**
+     * The equivalent WebDriver condition, for locators the page cannot evaluate.
+     */
+    ExpectedCondition<?> toExpectedCondition() {
+        switch (condition) {
+            case PRESENCE:
+                return ExpectedConditions.presenceOfElementLocated(locator);
+            case VISIBLE:
+                return ExpectedConditions.visibilityOfElementLocated(locator);
+            case ALL_VISIBLE:
+                return ExpectedConditions.visibilityOfAllElementsLocatedBy(locator);
+            case CLICKABLE:
+                return ExpectedConditions.elementToBeClickable(locator);
+            case INVISIBLE:
+                return ExpectedConditions.invisibilityOfElementLocated(locator);
+            case TEXT:
+                return ExpectedConditions.textToBePresentInElementLocated(locator, (String) expected);
+            case COUNT:
+                return ExpectedConditions.numberOfElementsToBeMoreThan(locator, (Integer) expected - 1);
+            default:
+                throw new FrameworkException("Unsupported condition: " + condition);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return condition.getScriptName() + (expected == null ? "" : "(" + expected + ")") + " of " + locator;
+    }
+}
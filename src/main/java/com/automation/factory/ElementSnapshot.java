@@ -0,0 +1,209 @@
+package com.automation.factory;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Element Snapshot - Display state, text, value, bounds and attributes of an element, read in one script call
+ * One call covers any number of locators and matches, instead of a remote command per property per element.
+ * Values are read from the DOM: visibility uses the same check as the in-page waits, attributes are DOM attributes.
+ * Snapshots do not wait; wait for the element first when it may not be rendered yet.
+ */
+public final class ElementSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT = EventDrivenWait.LOCATOR_FUNCTIONS + """
+            function __snapshot(el, attributes) {
+              var rect = el.getBoundingClientRect(), visible = __visible(el), attrs = {};
+              for (var i = 0; i < attributes.length; i++) { attrs[attributes[i]] = el.getAttribute(attributes[i]); }
+              return {
+                tag: el.tagName.toLowerCase(),
+                displayed: visible,
+                enabled: !(el.matches && el.matches(':disabled')),
+                selected: !!(el.checked || el.selected),
+                text: visible ? (el.innerText || el.textContent || '').trim() : '',
+                value: el.value === undefined || el.value === null ? null : String(el.value),
+                x: rect.left + window.scrollX, y: rect.top + window.scrollY, width: rect.width, height: rect.height,
+                attributes: attrs
+              };
+            }
+            var queries = arguments[0], attributes = arguments[1], all = arguments[2];
+            return queries.map(function (q) {
+              var els = q.elements || __find(q.using, q.value);
+              return (all ? els : els.slice(0, 1)).map(function (el) { return __snapshot(el, attributes); });
+            });
+            """;
+
+    private final By locator;
+    private final boolean present;
+    private final String tagName;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final String text;
+    private final String value;
+    private final Rectangle rect;
+    private final Map<String, String> attributes;
+
+    private ElementSnapshot(By locator, Map<?, ?> state) {
+        this.locator = locator;
+        this.present = state != null;
+        if (state == null) {
+            this.tagName = null;
+            this.displayed = false;
+            this.enabled = false;
+            this.selected = false;
+            this.text = null;
+            this.value = null;
+            this.rect = null;
+            this.attributes = Collections.emptyMap();
+            return;
+        }
+        this.tagName = (String) state.get("tag");
+        this.displayed = Boolean.TRUE.equals(state.get("displayed"));
+        this.enabled = Boolean.TRUE.equals(state.get("enabled"));
+        this.selected = Boolean.TRUE.equals(state.get("selected"));
+        this.text = (String) state.get("text");
+        this.value = (String) state.get("value");
+        this.rect = new Rectangle(round(state.get("x")), round(state.get("y")),
+                round(state.get("height")), round(state.get("width")));
+        Map<String, String> attrs = new LinkedHashMap<>();
+        ((Map<?, ?>) state.get("attributes")).forEach((name, attr) ->
+                attrs.put(String.valueOf(name), attr == null ? null : String.valueOf(attr)));
+        this.attributes = Collections.unmodifiableMap(attrs);
+    }
+
+    /**
+     * Snapshot of the first element matching the locator; check isPresent() when it may be absent.
+     */
+    public static ElementSnapshot of(WebDriver driver, By locator, String... attributes) {
+        return of(driver, List.of(locator), attributes).get(locator);
+    }
+
+    /**
+     * Snapshots of the first element matching each locator, keyed by locator in the given order.
+     */
+    public static Map<By, ElementSnapshot> of(WebDriver driver, Collection<By> locators, String... attributes) {
+        List<By> ordered = new ArrayList<>(locators);
+        List<List<ElementSnapshot>> captured = capture(driver, ordered, false, attributes);
+        Map<By, ElementSnapshot> snapshots = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            List<ElementSnapshot> matches = captured.get(i);
+            By locator = ordered.get(i);
+            snapshots.put(locator, matches.isEmpty() ? new ElementSnapshot(locator, null) : matches.get(0));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Snapshots of every element matching the locator, in document order; e.g. all rows of a table.
+     */
+    public static List<ElementSnapshot> ofAll(WebDriver driver, By locator, String... attributes) {
+        return capture(driver, List.of(locator), true, attributes).get(0);
+    }
+
+    private static List<List<ElementSnapshot>> capture(WebDriver driver, List<By> locators, boolean all,
+                                                       String... attributes) {
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (By locator : locators) {
+            Map<String, Object> query = new LinkedHashMap<>();
+            if (locator instanceof By.Remotable) {
+                By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+                query.put("using", parameters.using());
+                query.put("value", parameters.value());
+            } else {
+                // Chained and relative locators cannot be evaluated in the page; find them first and pass the elements
+                query.put("elements", ImplicitWaitController.findElementsNow(driver, locator));
+            }
+            queries.add(query);
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, queries,
+                Arrays.asList(attributes), all);
+        List<List<ElementSnapshot>> snapshots = new ArrayList<>();
+        List<?> perLocator = (List<?>) result;
+        for (int i = 0; i < locators.size(); i++) {
+            List<ElementSnapshot> matches = new ArrayList<>();
+            for (Object state : (List<?>) perLocator.get(i)) {
+                matches.add(new ElementSnapshot(locators.get(i), (Map<?, ?>) state));
+            }
+            snapshots.add(matches);
+        }
+        return snapshots;
+    }
+
+    private static int round(Object number) {
+        return (int) Math.round(((Number) number).doubleValue());
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * Rendered text, trimmed; empty for hidden elements as with WebElement.getText().
+     */
+    public String getText() {
+        return text;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Bounds in document coordinates.
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    /**
+     * A requested attribute, or null if the element does not have it.
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "absent " + locator;
+        }
+        return String.format("<%s> displayed=%s enabled=%s selected=%s text='%s' of %s",
+                tagName, displayed, enabled, selected, text, locator);
+    }
+}
@@ -0,0 +1,212 @@
+package com.automation.factory;
+
+import com.automation.enums.WaitStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+
+/**
+ * Event Driven Wait - Waits for element conditions inside the page instead of polling over the wire
+ * A MutationObserver and an animation-frame check resolve one async script call as soon as the condition holds;
+ * the matching ExpectedCondition then confirms the result once with WebDriver semantics.
+ */
+public final class EventDrivenWait {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDrivenWait.class);
+
+    /**
+     * Longest single async script call; kept below the driver script timeout and re-armed until the deadline
+     */
+    private static final long SLICE_MILLIS = 5000;
+
+    /**
+     * Conditions evaluated in the page, named as the script expects them
+     */
+    public enum Condition {
+        PRESENCE("presence", WaitStrategy.PRESENCE),
+        VISIBLE("visible", WaitStrategy.VISIBLE),
+        ALL_VISIBLE("allVisible", WaitStrategy.VISIBLE),
+        CLICKABLE("clickable", WaitStrategy.CLICKABLE),
+        INVISIBLE("invisible", WaitStrategy.INVISIBLE),
+        TEXT("text", WaitStrategy.PRESENCE),
+        COUNT("count", WaitStrategy.PRESENCE);
+
+        private final String scriptName;
+        private final WaitStrategy strategy;
+        private final String operation;
+
+        Condition(String scriptName, WaitStrategy strategy) {
+            this.scriptName = scriptName;
+            this.strategy = strategy;
+            this.operation = "wait:" + scriptName;
+        }
+
+        public String getScriptName() {
+            return scriptName;
+        }
+
+        /**
+         * The wait strategy the condition is reported under
+         */
+        public WaitStrategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * The operation name the condition is reported under in wait telemetry
+         */
+        public String getOperation() {
+            return operation;
+        }
+    }
+
+    static final String LOCATOR_FUNCTIONS = """
+            function __find(using, value) {
+              var root = document;
+              switch (using) {
+                case 'css selector': return Array.prototype.slice.call(root.querySelectorAll(value));
+                case 'tag name': return Array.prototype.slice.call(root.getElementsByTagName(value));
+                case 'xpath':
+                  var snapshot = root.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  var nodes = [];
+                  for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }
+                  return nodes;
+                case 'link text':
+                case 'partial link text':
+                  return Array.prototype.slice.call(root.querySelectorAll('a')).filter(function (a) {
+                    var text = (a.innerText || a.textContent || '').trim();
+                    return using === 'link text' ? text === value : text.indexOf(value) >= 0;
+                  });
+                default: throw new Error('Unsupported locator strategy: ' + using);
+              }
+            }
+            function __visible(el) {
+              if (!el.isConnected || el.getClientRects().length === 0) { return false; }
+              var style = window.getComputedStyle(el);
+              return style.visibility !== 'hidden' && style.visibility !== 'collapse' && style.opacity !== '0';
+            }
+            function __check(c) {
+              var els = __find(c.using, c.value);
+              switch (c.kind) {
+                case 'presence': return els.length > 0;
+                case 'visible': return els.some(__visible);
+                case 'allVisible': return els.length > 0 && els.every(__visible);
+                case 'clickable': return els.some(function (e) { return __visible(e) && !e.disabled; });
+                case 'invisible': return !els.some(__visible);
+                case 'text': return els.some(function (e) {
+                  return (e.innerText || e.textContent || '').indexOf(c.expected) >= 0;
+                });
+                case 'count': return els.length >= c.expected;
+                default: throw new Error('Unsupported condition: ' + c.kind);
+              }
+            }
+            """;
+
+    static final String OBSERVE_FUNCTION = """
+            function __observe(evaluate, budget, done) {
+              var finished = false, observer = null, timer = null, frame = null;
+              function finish(result) {
+                if (finished) { return; }
+                finished = true;
+                if (observer) { observer.disconnect(); }
+                if (timer) { clearTimeout(timer); }
+                if (frame) { cancelAnimationFrame(frame); }
+                done(result);
+              }
+              function attempt() {
+                try {
+                  var result = evaluate();
+                  if (result !== null) { finish(result); }
+                } catch (e) {
+                  finish('error: ' + e.message);
+                }
+              }
+              attempt();
+              if (finished) { return; }
+              observer = new MutationObserver(attempt);
+              observer.observe(document.documentElement || document,
+                  {childList: true, subtree: true, attributes: true, characterData: true});
+              // Style and layout changes (transitions, animations) do not mutate the DOM; re-check once per frame
+              var tick = function () { attempt(); if (!finished) { frame = requestAnimationFrame(tick); } };
+              frame = requestAnimationFrame(tick);
+              timer = setTimeout(function () { finish(null); }, budget);
+            }
+            """;
+
+    private static final String WAIT_SCRIPT = LOCATOR_FUNCTIONS + OBSERVE_FUNCTION + """
+            var condition = {using: arguments[0], value: arguments[1], kind: arguments[2], expected: arguments[3]};
+            __observe(function () { return __check(condition) ? true : null; },
+                arguments[4], arguments[arguments.length - 1]);
+            """;
+
+    private EventDrivenWait() {
+        // Private constructor
+    }
+
+    /**
+     * Whether the locator can be evaluated in the page. Chained and relative locators fall back to polling.
+     */
+    public static boolean supports(WebDriver driver, By locator) {
+        return driver instanceof JavascriptExecutor && locator instanceof By.Remotable;
+    }
+
+    /**
+     * Waits until the in-page condition holds and the confirming condition agrees, up to the timeout.
+     * Falls back to a polling wait for the remaining time if the page cannot evaluate the condition.
+     */
+    public static <T> T until(WebDriver driver, By locator, Condition condition, Object expected,
+                              ExpectedCondition<T> confirm, Duration timeout) {
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s of %s (tried for %d ms)",
+                        condition.getScriptName(), locator, timeout.toMillis()));
+            }
+
+            Object signal;
+            try {
+                signal = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, parameters.using(),
+                        parameters.value(), condition.getScriptName(), expected, Math.min(remaining, SLICE_MILLIS));
+            } catch (WebDriverException e) {
+                // Navigation unloads the script, or the page forbids it; keep waiting the conventional way
+                log.debug("Event-driven wait for {} interrupted, polling instead: {}", locator, e.getMessage());
+                return poll(driver, locator, confirm, deadline);
+            }
+
+            if (signal == null) {
+                continue;
+            }
+            if (!Boolean.TRUE.equals(signal)) {
+                log.debug("Event-driven wait for {} unavailable, polling instead: {}", locator, signal);
+                return poll(driver, locator, confirm, deadline);
+            }
+
+            // A met invisibility condition means the lookup will miss, which must not sit out the implicit wait
+            T result = condition == Condition.INVISIBLE
+                    ? ImplicitWaitController.withoutImplicitWait(driver, () -> confirm.apply(driver))
+                    : confirm.apply(driver);
+            if (result != null && !Boolean.FALSE.equals(result)) {
+                return result;
+            }
+            // The page and WebDriver disagree (e.g. an edge case of visibility); let WebDriver decide
+            return poll(driver, locator, confirm, deadline);
+        }
+    }
+
+    private static <T> T poll(WebDriver driver, By locator, ExpectedCondition<T> confirm, long deadline) {
+        long remaining = Math.max(0, deadline - System.currentTimeMillis());
+        WaitContext context = WaitContext.of(driver);
+        return ImplicitWaitController.withoutImplicitWait(driver, () ->
+                AdaptivePoller.newWait(context, Duration.ofMillis(remaining), context.keyOf(locator)).until(confirm));
+    }
+}
@@ -1,20 +1,26 @@
 package com.automation.factory;
 
-import com.automation.config.ConfigManager;
 import com.automation.driver.DriverManager;
 import com.automation.enums.WaitStrategy;
+import com.automation.factory.EventDrivenWait.Condition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Explicit Wait Factory - Provides various wait strategies
+ * Element waits resolve in the page via EventDrivenWait when enabled; polling waits back off via AdaptivePoller
  */
 public class ExplicitWaitFactory {
 
@@ -24,31 +30,73 @@ public class ExplicitWaitFactory {
         // Private constructor
     }
 
-    private static WebDriverWait getWait() {
-        int timeout = ConfigManager.getInstance().getExplicitWait();
-        return new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(timeout));
+    /**
+     * Polls with the thread's reusable wait for the default explicit timeout.
+     */
+    private static <T> T poll(String operation, WaitStrategy strategy, Object target,
+                              Function<? super WebDriver, T> condition) {
+        WaitContext context = WaitContext.get();
+        long start = System.nanoTime();
+        try {
+            T result = context.pollingWait(context.getExplicitWaitSeconds()).until(null, condition);
+            WaitTelemetry.record(operation, strategy, target, start, WaitTelemetry.Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            WaitTelemetry.record(operation, strategy, target, start, WaitTelemetry.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for an element condition, in the page when possible, otherwise by polling.
+     */
+    private static <T> T until(By locator, Condition condition, Object expected,
+                               ExpectedCondition<T> confirm, int timeoutSeconds) {
+        WaitContext context = WaitContext.get();
+        WebDriver driver = context.getDriver();
+        String key = context.keyOf(locator);
+        long start = System.nanoTime();
+        try {
+            T result;
+            if (context.isEventDriven() && EventDrivenWait.supports(driver, locator)) {
+                Duration timeout = timeoutSeconds == context.getExplicitWaitSeconds()
+                        ? context.getExplicitWait()
+                        : Duration.ofSeconds(timeoutSeconds);
+                result = EventDrivenWait.until(driver, locator, condition, expected, confirm, timeout);
+            } else {
+                AdaptivePoller.PollingWait wait = context.pollingWait(timeoutSeconds);
+                result = ImplicitWaitController.withoutImplicitWait(driver, () -> wait.until(key, confirm));
+            }
+            AdaptivePoller.record(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            WaitTelemetry.record(condition.getOperation(), condition.getStrategy(), locator, start,
+                    WaitTelemetry.Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            WaitTelemetry.record(condition.getOperation(), condition.getStrategy(), locator, start,
+                    WaitTelemetry.outcomeOf(e));
+            throw e;
+        }
     }
 
-    private static WebDriverWait getWait(int timeoutSeconds) {
-        return new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(timeoutSeconds));
+    private static <T> T until(By locator, Condition condition, Object expected, ExpectedCondition<T> confirm) {
+        return until(locator, condition, expected, confirm, WaitContext.get().getExplicitWaitSeconds());
     }
 
     public static WebElement performExplicitWait(WaitStrategy strategy, By locator) {
         WebElement element = null;
-        WebDriverWait wait = getWait();
 
         switch (strategy) {
             case CLICKABLE:
-                element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+                element = waitForClickable(locator);
                 break;
             case VISIBLE:
-                element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                element = waitForVisible(locator);
                 break;
             case PRESENCE:
-                element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+                element = waitForPresence(locator);
                 break;
             case NONE:
-                element = DriverManager.getDriver().findElement(locator);
+                element = ImplicitWaitController.findElement(DriverManager.getDriver(), locator);
                 break;
             default:
                 log.warn("Unknown wait strategy: {}", strategy);
@@ -58,54 +106,139 @@ public class ExplicitWaitFactory {
     }
 
     public static WebElement waitForClickable(By locator) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+        return until(locator, Condition.CLICKABLE, null, ExpectedConditions.elementToBeClickable(locator));
     }
 
     public static WebElement waitForVisible(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until(locator, Condition.VISIBLE, null, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     public static WebElement waitForPresence(By locator) {
-        return getWait().until(ExpectedConditions.presenceOfElementLocated(locator));
+        return until(locator, Condition.PRESENCE, null, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     public static List<WebElement> waitForAllVisible(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return until(locator, Condition.ALL_VISIBLE, null,
+                ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
     }
 
     public static List<WebElement> waitForAllPresent(By locator) {
-        return getWait().until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        return until(locator, Condition.PRESENCE, null, ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
     }
 
     public static boolean waitForInvisibility(By locator) {
-        return getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(locator, Condition.INVISIBLE, null, ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+
+    public static List<WebElement> waitForCount(By locator, int count) {
+        return until(locator, Condition.COUNT, count,
+                ExpectedConditions.numberOfElementsToBeMoreThan(locator, count - 1));
     }
 
     public static void waitForFrame(By locator) {
-        getWait().until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
+        ImplicitWaitController.withoutImplicitWait(DriverManager.getDriver(), () ->
+                poll("wait:frame", WaitStrategy.FRAME, locator,
+                        ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator)));
     }
 
     public static void waitForFrame(String nameOrId) {
-        getWait().until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(nameOrId));
+        poll("wait:frame", WaitStrategy.FRAME, nameOrId, ExpectedConditions.frameToBeAvailableAndSwitchToIt(nameOrId));
     }
 
     public static void waitForAlert() {
-        getWait().until(ExpectedConditions.alertIsPresent());
+        poll("wait:alert", WaitStrategy.ALERT, null, ExpectedConditions.alertIsPresent());
     }
 
     public static boolean waitForTextPresent(By locator, String text) {
-        return getWait().until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return until(locator, Condition.TEXT, text,
+                ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
+
+    /**
+     * Waits until the page has loaded and its network and animations have been quiet for the configured window.
+     */
+    public static void waitForPageReady() {
+        WaitContext context = WaitContext.get();
+        long start = System.nanoTime();
+        try {
+            PageReadiness.waitUntilReady(context.getDriver(), context.getPageLoadTimeout());
+            WaitTelemetry.record("wait:pageReady", WaitStrategy.NONE, null, start, WaitTelemetry.Outcome.SUCCESS);
+        } catch (RuntimeException e) {
+            WaitTelemetry.record("wait:pageReady", WaitStrategy.NONE, null, start, WaitTelemetry.outcomeOf(e));
+            throw e;
+        }
     }
 
     public static boolean waitForUrl(String url) {
-        return getWait().until(ExpectedConditions.urlContains(url));
+        return poll("wait:url", WaitStrategy.NONE, url, ExpectedConditions.urlContains(url));
     }
 
     public static boolean waitForTitleContains(String title) {
-        return getWait().until(ExpectedConditions.titleContains(title));
+        return poll("wait:title", WaitStrategy.NONE, title, ExpectedConditions.titleContains(title));
+    }
+
+    /**
+     * Waits until every condition holds, evaluating them together on each check.
+     */
+    public static CompositeWait.Result waitForAll(ElementCondition... conditions) {
+        return waitForComposite(CompositeWait.Mode.ALL_OF, conditions);
+    }
+
+    /**
+     * Waits until at least one condition holds and returns all that hold at that moment.
+     */
+    public static CompositeWait.Result waitForAny(ElementCondition... conditions) {
+        return waitForComposite(CompositeWait.Mode.ANY_OF, conditions);
+    }
+
+    /**
+     * Waits until a condition holds and returns the first one in declaration order, e.g. dashboard or error banner.
+     */
+    public static CompositeWait.Result waitForFirst(ElementCondition... conditions) {
+        return waitForComposite(CompositeWait.Mode.FIRST_OF, conditions);
+    }
+
+    private static CompositeWait.Result waitForComposite(CompositeWait.Mode mode, ElementCondition... conditions) {
+        WaitContext context = WaitContext.get();
+        String target = WaitTelemetry.isEnabled() ? Arrays.toString(conditions) : null;
+        long start = System.nanoTime();
+        try {
+            CompositeWait.Result result = CompositeWait.until(context.getDriver(), mode, Arrays.asList(conditions),
+                    context.getExplicitWait());
+            WaitTelemetry.record(mode.name(), null, target, start, WaitTelemetry.Outcome.SUCCESS);
+            log.debug("Composite wait {} {}", mode, result);
+            return result;
+        } catch (RuntimeException e) {
+            WaitTelemetry.record(mode.name(), null, target, start, WaitTelemetry.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Fast negative check: whether the element is present right now, without waiting.
+     */
+    public static boolean isPresentNow(By locator) {
+        return !ImplicitWaitController.findElementsNow(DriverManager.getDriver(), locator).isEmpty();
+    }
+
+    /**
+     * Fast negative check: whether any matching element is displayed right now, without waiting.
+     */
+    public static boolean isDisplayedNow(By locator) {
+        for (WebElement element : ImplicitWaitController.findElementsNow(DriverManager.getDriver(), locator)) {
+            try {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                log.debug("Element went stale during display check: {}", locator);
+            }
+        }
+        return false;
     }
 
     public static WebElement waitWithCustomTimeout(By locator, int timeoutSeconds) {
-        return getWait(timeoutSeconds).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until(locator, Condition.VISIBLE, null, ExpectedConditions.visibilityOfElementLocated(locator),
+                timeoutSeconds);
     }
 }
@@ -0,0 +1,105 @@
+package com.automation.factory;
+
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form Fill - Sets the values of many form fields in one script call, firing the events a user's input would
+ * Values go through the native value setter, so framework-bound inputs (React, Vue, Angular) see the change;
+ * each field is focused, set, sent input and change events, and blurred. Checkboxes and radios take "true"/"false"
+ * and are clicked when their state differs; selects take an option value or visible text.
+ */
+public final class FormFill {
+
+    private static final Logger log = LoggerFactory.getLogger(FormFill.class);
+
+    private static final String FILL_SCRIPT = EventDrivenWait.LOCATOR_FUNCTIONS + """
+            function __setValue(el, value) {
+              var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+                  : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;
+              Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);
+              el.dispatchEvent(new Event('input', {bubbles: true}));
+              el.dispatchEvent(new Event('change', {bubbles: true}));
+            }
+            function __fill(el, text) {
+              var type = (el.type || '').toLowerCase();
+              if (el.disabled || el.readOnly || type === 'file') { return 'native'; }
+              el.focus();
+              if (type === 'checkbox' || type === 'radio') {
+                if (el.checked !== (text === 'true')) { el.click(); }
+              } else if (el.tagName === 'SELECT') {
+                var option = Array.prototype.filter.call(el.options, function (o) {
+                  return o.value === text || o.text.trim() === text;
+                })[0];
+                if (!option) { return 'option'; }
+                __setValue(el, option.value);
+              } else if (el.isContentEditable) {
+                el.textContent = text;
+                el.dispatchEvent(new Event('input', {bubbles: true}));
+              } else if (el instanceof HTMLInputElement || el instanceof HTMLTextAreaElement) {
+                __setValue(el, text);
+              } else {
+                return 'native';
+              }
+              el.blur();
+              return null;
+            }
+            var fields = arguments[0], skipped = [];
+            for (var i = 0; i < fields.length; i++) {
+              var el = __find(fields[i].using, fields[i].selector)[0];
+              var reason = el ? __fill(el, fields[i].text) : 'native';
+              if (reason) { skipped.push([i, reason]); }
+            }
+            return skipped;
+            """;
+
+    private FormFill() {
+        // Private constructor
+    }
+
+    /**
+     * Whether the field can be filled by script; chained and relative locators need native typing.
+     */
+    public static boolean supports(WebDriver driver, By locator) {
+        return EventDrivenWait.supports(driver, locator);
+    }
+
+    /**
+     * Fills the fields in one script call and returns the locators the script left for native typing,
+     * e.g. file inputs and read-only fields, in the given order.
+     */
+    public static List<By> fill(WebDriver driver, Map<By, String> values) {
+        List<By> locators = new ArrayList<>(values.keySet());
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            Map<String, Object> field = new LinkedHashMap<>();
+            field.put("using", parameters.using());
+            field.put("selector", parameters.value());
+            field.put("text", values.get(locator));
+            fields.add(field);
+        }
+
+        List<By> skipped = new ArrayList<>();
+        for (Object entry : (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields)) {
+            List<?> skip = (List<?>) entry;
+            By locator = locators.get(((Number) skip.get(0)).intValue());
+            if ("option".equals(skip.get(1))) {
+                throw new FrameworkException("No option '" + values.get(locator) + "' in select " + locator);
+            }
+            skipped.add(locator);
+        }
+        log.debug("Filled {} field(s) by script, {} left for native typing", locators.size() - skipped.size(),
+                skipped.size());
+        return skipped;
+    }
+}
@@ -0,0 +1,126 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Implicit Wait Controller - Keeps the implicit wait out of explicit waits and accounts for time it still costs
+ * Explicit waits run with the implicit wait suspended; direct lookups that come back empty are counted per test thread
+ */
+public final class ImplicitWaitController {
+
+    private static final Logger log = LoggerFactory.getLogger(ImplicitWaitController.class);
+
+    private static final ThreadLocal<TestStats> stats = ThreadLocal.withInitial(TestStats::new);
+
+    private ImplicitWaitController() {
+        // Private constructor
+    }
+
+    /**
+     * Runs the action with the implicit wait set to zero and restores it afterwards. Nested calls share one suspension.
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> action) {
+        TestStats current = stats.get();
+        WaitContext context = WaitContext.peek(driver);
+        int implicitSeconds = context != null
+                ? context.getImplicitWaitSeconds()
+                : ConfigManager.getInstance().getImplicitWait();
+        if (implicitSeconds <= 0 || current.suspended) {
+            return action.get();
+        }
+
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        current.suspended = true;
+        current.suspensions++;
+        try {
+            return action.get();
+        } finally {
+            current.suspended = false;
+            try {
+                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitSeconds));
+            } catch (WebDriverException e) {
+                log.debug("Failed to restore implicit wait: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Finds elements without waiting, for negative checks that must return immediately.
+     */
+    public static List<WebElement> findElementsNow(WebDriver driver, By locator) {
+        return withoutImplicitWait(driver, () -> driver.findElements(locator));
+    }
+
+    /**
+     * Finds an element under the implicit wait, counting the time lost when it is absent.
+     */
+    public static WebElement findElement(WebDriver driver, By locator) {
+        long start = System.currentTimeMillis();
+        try {
+            return driver.findElement(locator);
+        } catch (NoSuchElementException e) {
+            recordMiss(locator, System.currentTimeMillis() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Finds elements under the implicit wait, counting the time lost when none are present.
+     */
+    public static List<WebElement> findElements(WebDriver driver, By locator) {
+        long start = System.currentTimeMillis();
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
+            recordMiss(locator, System.currentTimeMillis() - start);
+        }
+        return elements;
+    }
+
+    public static long getLostMillis() {
+        return stats.get().lostMillis;
+    }
+
+    /**
+     * Summary of the current test thread's implicit wait cost since the last reset.
+     */
+    public static String getTestReport() {
+        TestStats current = stats.get();
+        return String.format("Implicit wait lost %dms on %d empty lookup(s); %d explicit wait(s) ran with it suspended",
+                current.lostMillis, current.misses, current.suspensions);
+    }
+
+    public static void reset() {
+        stats.remove();
+    }
+
+    private static void recordMiss(By locator, long elapsedMillis) {
+        TestStats current = stats.get();
+        if (current.suspended) {
+            return;
+        }
+        current.misses++;
+        current.lostMillis += elapsedMillis;
+        log.debug("Lookup for {} came back empty after {}ms of implicit wait", locator, elapsedMillis);
+    }
+
+    /**
+     * Per test thread counters
+     */
+    private static class TestStats {
+        private boolean suspended;
+        private int suspensions;
+        private int misses;
+        private long lostMillis;
+    }
+}
@@ -0,0 +1,287 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import com.automation.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Page Readiness - Waits until a page has loaded and then stayed quiet: no fetch/XHR in flight, no finite
+ * animations running, and no network activity for the configured quiet window.
+ * A hook counting requests is registered over CDP for every new document on Chromium, or injected on first wait
+ * elsewhere; requests started before a late injection are not seen, so the quiet window then starts at injection.
+ */
+public final class PageReadiness {
+
+    private static final Logger log = LoggerFactory.getLogger(PageReadiness.class);
+
+    /**
+     * Longest single async script call; kept below the driver script timeout and re-armed until the deadline
+     */
+    private static final long SLICE_MILLIS = 5000;
+
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    /**
+     * Lower-case fragments of the errors Chromium and Firefox raise when a script's document is unloaded or its
+     * execution context destroyed by a navigation
+     */
+    private static final String[] NAVIGATION_MARKERS = {
+            "document unloaded",
+            "document was unloaded",
+            "execution context was destroyed",
+            "cannot find context with specified id",
+            "inspected target navigated or closed"
+    };
+
+    private static final String HOOK_FUNCTION = """
+            function (ignore) {
+              if (window.__automationReadiness) { return; }
+              var state = {inflight: 0, last: performance.now()};
+              window.__automationReadiness = state;
+              var skip = ignore ? new RegExp(ignore) : null;
+              function tracked(url) { return !(skip && skip.test(String(url))); }
+              function begin() { state.inflight++; state.last = performance.now(); }
+              function end() { state.inflight = Math.max(0, state.inflight - 1); state.last = performance.now(); }
+              if (window.fetch) {
+                var nativeFetch = window.fetch;
+                window.fetch = function (input) {
+                  if (!tracked(input && input.url ? input.url : input)) { return nativeFetch.apply(window, arguments); }
+                  begin();
+                  try {
+                    return nativeFetch.apply(window, arguments).then(
+                        function (response) { end(); return response; },
+                        function (error) { end(); throw error; });
+                  } catch (e) {
+                    end();
+                    throw e;
+                  }
+                };
+              }
+              if (window.XMLHttpRequest) {
+                var open = XMLHttpRequest.prototype.open, send = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.open = function (method, url) {
+                  this.__readinessUrl = url;
+                  return open.apply(this, arguments);
+                };
+                XMLHttpRequest.prototype.send = function () {
+                  if (!tracked(this.__readinessUrl)) { return send.apply(this, arguments); }
+                  var ended = false;
+                  var once = function () { if (!ended) { ended = true; end(); } };
+                  begin();
+                  this.addEventListener('loadend', once);
+                  try {
+                    return send.apply(this, arguments);
+                  } catch (e) {
+                    once();
+                    throw e;
+                  }
+                };
+              }
+              // Scripts, images and styles are not counted in flight, but their completion restarts the quiet window
+              if (window.PerformanceObserver) {
+                try {
+                  new PerformanceObserver(function () { state.last = performance.now(); }).observe({type: 'resource'});
+                } catch (e) {
+                  // Resource timing unavailable; fetch/XHR tracking still applies
+                }
+              }
+            }
+            """;
+
+    private static final String WAIT_SCRIPT = "(" + HOOK_FUNCTION + ")(arguments[0]);\n" + """
+            var state = window.__automationReadiness, quiet = arguments[1], animations = arguments[2];
+            var done = arguments[arguments.length - 1], finished = false, timer = null, lastBusy = 0;
+            function pendingAnimations() {
+              if (!animations || !document.getAnimations) { return 0; }
+              // Infinite animations (loaders, decorative loops) never settle; only finite ones are waited out
+              return document.getAnimations().filter(function (a) {
+                return a.playState === 'running' && a.effect && isFinite(a.effect.getComputedTiming().endTime);
+              }).length;
+            }
+            function finish(result) {
+              if (finished) { return; }
+              finished = true;
+              clearTimeout(timer);
+              clearTimeout(budget);
+              done(result);
+            }
+            function check() {
+              var now = performance.now(), delay = 50;
+              if (document.readyState !== 'complete' || state.inflight > 0 || pendingAnimations() > 0) {
+                lastBusy = now;
+              } else {
+                var idle = now - Math.max(state.last, lastBusy);
+                if (idle >= quiet) { finish(true); return; }
+                delay = Math.max(10, quiet - idle);
+              }
+              timer = setTimeout(check, delay);
+            }
+            var budget = setTimeout(function () {
+              finish({readyState: document.readyState, inflight: state.inflight, animations: pendingAnimations()});
+            }, arguments[3]);
+            check();
+            """;
+
+    /**
+     * Hooks registered per driver and window handle; CDP scripts apply to one target, so each tab needs its own
+     */
+    private static final Map<WebDriver, Map<String, HookRegistration>> hooks = new WeakHashMap<>();
+
+    private PageReadiness() {
+        // Private constructor
+    }
+
+    /**
+     * Waits until the page is ready as configured by page.ready.* and throws a TimeoutException otherwise.
+     */
+    public static void waitUntilReady(WebDriver driver, Duration timeout) {
+        ConfigManager config = ConfigManager.getInstance();
+        waitUntilReady(driver, timeout, Duration.ofMillis(config.getPageReadyQuietMillis()),
+                config.isPageReadyAnimationTracking(), config.getPageReadyIgnoredUrls());
+    }
+
+    /**
+     * Waits until the page has been quiet for the given window.
+     *
+     * @param ignoredUrls JavaScript regular expression for request URLs that never count (long polling, analytics),
+     *                    or empty to count every request
+     */
+    public static void waitUntilReady(WebDriver driver, Duration timeout, Duration quiet,
+                                      boolean trackAnimations, String ignoredUrls) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            log.debug("Driver cannot run scripts; page readiness not checked");
+            return;
+        }
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        registerHook(driver, ignoredUrls);
+
+        Object lastState = null;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Page not ready after %d ms (quiet window %d ms): %s",
+                        timeout.toMillis(), quiet.toMillis(), lastState));
+            }
+
+            try {
+                Object signal = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, ignoredUrls,
+                        quiet.toMillis(), trackAnimations, Math.min(remaining, SLICE_MILLIS));
+                if (Boolean.TRUE.equals(signal)) {
+                    return;
+                }
+                lastState = signal;
+            } catch (WebDriverException e) {
+                if (!isNavigation(e)) {
+                    throw e;
+                }
+                // The document was replaced mid-wait (navigation, reload); the next slice hooks the new one
+                log.debug("Readiness check interrupted by navigation: {}", e.getMessage());
+                lastState = e.getMessage();
+                backOff(deadline);
+            }
+        }
+    }
+
+    /**
+     * True when the script failed because its document went away, as opposed to a dead window or session or a
+     * broken script, which retrying cannot fix.
+     */
+    private static boolean isNavigation(WebDriverException e) {
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+        for (String marker : NAVIGATION_MARKERS) {
+            if (message.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives the new document a moment to start loading before the next slice.
+     */
+    private static void backOff(long deadline) {
+        long pause = Math.min(RETRY_BACKOFF_MILLIS, deadline - System.currentTimeMillis());
+        if (pause <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for the page to be ready", e);
+        }
+    }
+
+    /**
+     * Registers the request hook for every new document in the current window, so requests made while the page
+     * loads are counted too. A new tab (pool reset, context switch) gets its own registration, and a changed
+     * ignore pattern replaces the earlier script, which would otherwise win the install race.
+     */
+    private static void registerHook(WebDriver driver, String ignoredUrls) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, HookRegistration> registered;
+        synchronized (hooks) {
+            registered = hooks.computeIfAbsent(driver, d -> new HashMap<>());
+        }
+        synchronized (registered) {
+            String handle;
+            HookRegistration current;
+            try {
+                handle = driver.getWindowHandle();
+                current = registered.get(handle);
+                if (current != null && Objects.equals(current.ignoredUrls, ignoredUrls)) {
+                    return;
+                }
+            } catch (WebDriverException e) {
+                log.debug("Window handle not available, readiness hook not registered: {}", e.getMessage());
+                return;
+            }
+
+            String identifier = null;
+            try {
+                HasCdp cdp = (HasCdp) driver;
+                if (current == null) {
+                    // Drop the registrations of tabs closed since, so a pooled driver does not accumulate them
+                    registered.keySet().retainAll(driver.getWindowHandles());
+                } else if (current.identifier != null) {
+                    cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                            Map.of("identifier", current.identifier));
+                }
+                String source = "(" + HOOK_FUNCTION + ")(" + new Json().toJson(ignoredUrls) + ");";
+                Map<String, Object> result = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", source));
+                identifier = String.valueOf(result.get("identifier"));
+                log.debug("Registered page readiness hook over CDP for window {}", handle);
+            } catch (Exception e) {
+                log.debug("Readiness hook not registered over CDP, injecting per wait: {}", e.getMessage());
+            }
+            // Remembered even on failure, so a target without CDP support is not retried on every wait
+            registered.put(handle, new HookRegistration(ignoredUrls, identifier));
+        }
+    }
+
+    private static final class HookRegistration {
+        private final String ignoredUrls;
+        private final String identifier;
+
+        private HookRegistration(String ignoredUrls, String identifier) {
+            this.ignoredUrls = ignoredUrls;
+            this.identifier = identifier;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import com.automation.driver.DriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Wait Context - Per-thread wait settings and reusable waits bound to the thread's current driver
+ * Built once per driver instead of on every interaction; rebuilt when DriverManager hands the thread another driver
+ */
+public final class WaitContext {
+
+    private static final ThreadLocal<WaitContext> current = new ThreadLocal<>();
+
+    /**
+     * Page objects are rebuilt per test, so the locator key cache is dropped once it holds this many locators
+     */
+    private static final int MAX_LOCATOR_KEYS = 512;
+
+    private final WebDriver driver;
+    private final int explicitWaitSeconds;
+    private final Duration explicitWait;
+    private final int implicitWaitSeconds;
+    private final Duration pageLoadTimeout;
+    private final boolean eventDriven;
+    private final boolean adaptivePolling;
+    private final long pollingMinMillis;
+    private final long pollingMaxMillis;
+    private final Map<Integer, AdaptivePoller.PollingWait> waits = new HashMap<>();
+    private final Map<By, String> locatorKeys = new IdentityHashMap<>();
+
+    private WaitContext(WebDriver driver, ConfigManager config) {
+        this.driver = driver;
+        this.explicitWaitSeconds = config.getExplicitWait();
+        this.explicitWait = Duration.ofSeconds(explicitWaitSeconds);
+        this.implicitWaitSeconds = config.getImplicitWait();
+        this.pageLoadTimeout = Duration.ofSeconds(config.getPageLoadTimeout());
+        this.eventDriven = config.isEventDrivenWaitEnabled();
+        this.adaptivePolling = config.isAdaptivePollingEnabled();
+        this.pollingMinMillis = Math.max(1, config.getPollingMinMillis());
+        this.pollingMaxMillis = Math.max(pollingMinMillis, config.getPollingMaxMillis());
+    }
+
+    /**
+     * The context for the current thread's driver.
+     */
+    static WaitContext get() {
+        WebDriver driver = DriverManager.getDriver();
+        WaitContext context = current.get();
+        if (context == null || context.driver != driver) {
+            context = new WaitContext(driver, ConfigManager.getInstance());
+            current.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * The context if it is bound to the given driver, otherwise null.
+     */
+    static WaitContext peek(WebDriver driver) {
+        WaitContext context = current.get();
+        return context != null && context.driver == driver ? context : null;
+    }
+
+    /**
+     * The thread's context if it is bound to the given driver, otherwise a one-off context for that driver.
+     */
+    static WaitContext of(WebDriver driver) {
+        WaitContext context = peek(driver);
+        return context != null ? context : new WaitContext(driver, ConfigManager.getInstance());
+    }
+
+    /**
+     * Drops the thread's cached waits, e.g. when its driver is quit or returned to a pool.
+     */
+    public static void invalidate() {
+        current.remove();
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    int getExplicitWaitSeconds() {
+        return explicitWaitSeconds;
+    }
+
+    Duration getExplicitWait() {
+        return explicitWait;
+    }
+
+    int getImplicitWaitSeconds() {
+        return implicitWaitSeconds;
+    }
+
+    Duration getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    boolean isAdaptivePolling() {
+        return adaptivePolling;
+    }
+
+    long getPollingMinMillis() {
+        return pollingMinMillis;
+    }
+
+    long getPollingMaxMillis() {
+        return pollingMaxMillis;
+    }
+
+    /**
+     * The wait history key of a locator, its string form, rendered once per locator instance rather than per wait.
+     */
+    String keyOf(By locator) {
+        String key = locatorKeys.get(locator);
+        if (key == null) {
+            if (locatorKeys.size() >= MAX_LOCATOR_KEYS) {
+                locatorKeys.clear();
+            }
+            key = locator.toString();
+            locatorKeys.put(locator, key);
+        }
+        return key;
+    }
+
+    AdaptivePoller.PollingWait pollingWait(int timeoutSeconds) {
+        AdaptivePoller.PollingWait wait = waits.get(timeoutSeconds);
+        if (wait == null) {
+            wait = AdaptivePoller.newPollingWait(this, Duration.ofSeconds(timeoutSeconds));
+            waits.put(timeoutSeconds, wait);
+        }
+        return wait;
+    }
+}
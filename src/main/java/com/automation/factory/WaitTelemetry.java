@@ -0,0 +1,336 @@
+package com.automation.factory;
+
+import com.automation.config.ConfigManager;
+import com.automation.enums.WaitStrategy;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Telemetry - Per-locator duration histograms for waits and page interactions
+ * Histograms are shared LongAdder buckets; each thread caches which histogram a locator records into, so a
+ * recording neither allocates nor locks once that locator has been seen
+ */
+public final class WaitTelemetry {
+
+    /**
+     * How a recorded wait or interaction ended
+     */
+    public enum Outcome { SUCCESS, TIMEOUT, FAILURE }
+
+    /**
+     * Histogram bucket upper bounds in milliseconds; the last bucket is open-ended
+     */
+    private static final long[] BUCKET_BOUNDS_MILLIS =
+            {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 30000, 60000};
+
+    private static final boolean ENABLED = ConfigManager.getInstance().isWaitTelemetryEnabled();
+
+    /**
+     * Page objects are rebuilt per test, so a thread's lookup cache is dropped once it holds this many targets
+     */
+    private static final int MAX_CACHED_TARGETS = 1024;
+
+    private static final Store store = new Store(MAX_CACHED_TARGETS);
+
+    private WaitTelemetry() {
+        // Private constructor
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records one wait or interaction. The target is usually a By locator and is only rendered for the report.
+     */
+    public static void record(String operation, WaitStrategy strategy, Object target, long startNanos,
+                              Outcome outcome) {
+        if (!ENABLED) {
+            return;
+        }
+        store.record(operation, strategy, target, System.nanoTime() - startNanos, outcome);
+    }
+
+    public static Outcome outcomeOf(Throwable failure) {
+        return failure instanceof TimeoutException ? Outcome.TIMEOUT : Outcome.FAILURE;
+    }
+
+    /**
+     * Rows of the slowest operations by total time across all threads, with a header row first.
+     */
+    public static String[][] getSlowestTable(int limit) {
+        return store.getSlowestTable(limit);
+    }
+
+    /**
+     * Plain-text form of the slowest operations table, for logs and text attachments.
+     */
+    public static String getSlowestReport(int limit) {
+        return format(getSlowestTable(limit));
+    }
+
+    /**
+     * Zeroes every histogram. They stay registered, since other threads may still hold them in their caches.
+     */
+    public static void reset() {
+        store.reset();
+    }
+
+    static String format(String[][] table) {
+        if (table.length == 1) {
+            return "No waits recorded";
+        }
+        int[] widths = new int[table[0].length];
+        for (String[] row : table) {
+            for (int c = 0; c < row.length; c++) {
+                widths[c] = Math.max(widths[c], row[c].length());
+            }
+        }
+        StringBuilder report = new StringBuilder();
+        for (String[] row : table) {
+            for (int c = 0; c < row.length; c++) {
+                report.append(String.format("%-" + widths[c] + "s", row[c]));
+                report.append(c == row.length - 1 ? System.lineSeparator() : "  ");
+            }
+        }
+        return report.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * The histograms and each thread's lookup cache; one instance backs the static API
+     */
+    static final class Store {
+
+        private final int maxCachedTargets;
+        private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+        private final ThreadLocal<Map<Object, Slot>> threadSlots = ThreadLocal.withInitial(IdentityHashMap::new);
+
+        Store(int maxCachedTargets) {
+            this.maxCachedTargets = maxCachedTargets;
+        }
+
+        void record(String operation, WaitStrategy strategy, Object target, long elapsedNanos, Outcome outcome) {
+            histogramFor(operation, strategy, target).add(elapsedNanos, outcome);
+        }
+
+        /**
+         * Looks the target up by identity in the thread's cache; only a target first seen on this thread, or a new
+         * operation on it, goes to the shared map.
+         */
+        private Histogram histogramFor(String operation, WaitStrategy strategy, Object target) {
+            Map<Object, Slot> slots = threadSlots.get();
+            Slot head = slots.get(target);
+            for (Slot slot = head; slot != null; slot = slot.next) {
+                if (slot.strategy == strategy && slot.operation.equals(operation)) {
+                    return slot.histogram;
+                }
+            }
+            if (head == null && slots.size() >= maxCachedTargets) {
+                slots.clear();
+            }
+            Histogram histogram = histograms.computeIfAbsent(new Key(operation, strategy, target),
+                    key -> new Histogram());
+            slots.put(target, new Slot(operation, strategy, histogram, head));
+            return histogram;
+        }
+
+        /**
+         * Targets in the calling thread's lookup cache.
+         */
+        int cachedTargets() {
+            return threadSlots.get().size();
+        }
+
+        String[][] getSlowestTable(int limit) {
+            List<Map.Entry<Key, Histogram.Snapshot>> slowest = snapshot();
+            slowest.sort(Comparator.comparingLong(
+                    (Map.Entry<Key, Histogram.Snapshot> e) -> e.getValue().totalNanos).reversed());
+
+            int rows = Math.min(limit, slowest.size());
+            String[][] table = new String[rows + 1][];
+            table[0] = new String[]{"Operation", "Strategy", "Locator", "Count", "Total ms", "Avg ms", "p95 ms",
+                    "Max ms", "Timeouts", "Failures"};
+            for (int i = 0; i < rows; i++) {
+                Key key = slowest.get(i).getKey();
+                Histogram.Snapshot histogram = slowest.get(i).getValue();
+                table[i + 1] = new String[]{
+                        key.operation,
+                        key.strategy == null ? "-" : key.strategy.name(),
+                        String.valueOf(key.target),
+                        String.valueOf(histogram.count),
+                        String.valueOf(toMillis(histogram.totalNanos)),
+                        String.valueOf(toMillis(histogram.totalNanos / histogram.count)),
+                        histogram.percentileLabel(0.95),
+                        String.valueOf(toMillis(histogram.maxNanos)),
+                        String.valueOf(histogram.outcomes[Outcome.TIMEOUT.ordinal()]),
+                        String.valueOf(histogram.outcomes[Outcome.FAILURE.ordinal()])};
+            }
+            return table;
+        }
+
+        void reset() {
+            histograms.values().forEach(Histogram::reset);
+        }
+
+        private List<Map.Entry<Key, Histogram.Snapshot>> snapshot() {
+            List<Map.Entry<Key, Histogram.Snapshot>> entries = new ArrayList<>();
+            histograms.forEach((key, histogram) -> {
+                Histogram.Snapshot snapshot = histogram.snapshot();
+                if (snapshot.count > 0) {
+                    entries.add(Map.entry(key, snapshot));
+                }
+            });
+            return entries;
+        }
+    }
+
+    private static final class Key {
+
+        private final String operation;
+        private final WaitStrategy strategy;
+        private final Object target;
+
+        Key(String operation, WaitStrategy strategy, Object target) {
+            this.operation = operation;
+            this.strategy = strategy;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return operation.equals(key.operation) && strategy == key.strategy && Objects.equals(target, key.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, strategy, target);
+        }
+    }
+
+    /**
+     * One cached (operation, strategy) histogram of a target, chained to the target's other operations
+     */
+    private static final class Slot {
+
+        private final String operation;
+        private final WaitStrategy strategy;
+        private final Histogram histogram;
+        private final Slot next;
+
+        Slot(String operation, WaitStrategy strategy, Histogram histogram, Slot next) {
+            this.operation = operation;
+            this.strategy = strategy;
+            this.histogram = histogram;
+            this.next = next;
+        }
+    }
+
+    private static final class Histogram {
+
+        private final LongAdder[] buckets = newAdders(BUCKET_BOUNDS_MILLIS.length + 1);
+        private final LongAdder[] outcomes = newAdders(Outcome.values().length);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void add(long nanos, Outcome outcome) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            outcomes[outcome.ordinal()].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            for (LongAdder outcome : outcomes) {
+                outcome.reset();
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+
+        Snapshot snapshot() {
+            long[] bucketCounts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                bucketCounts[i] = buckets[i].sum();
+            }
+            long[] outcomeCounts = new long[outcomes.length];
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomeCounts[i] = outcomes[i].sum();
+            }
+            return new Snapshot(bucketCounts, outcomeCounts, count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+
+        private static LongAdder[] newAdders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        /**
+         * Point-in-time totals of a histogram, read once for the report
+         */
+        private static final class Snapshot {
+
+            private final long[] buckets;
+            private final long[] outcomes;
+            private final long count;
+            private final long totalNanos;
+            private final long maxNanos;
+
+            Snapshot(long[] buckets, long[] outcomes, long count, long totalNanos, long maxNanos) {
+                this.buckets = buckets;
+                this.outcomes = outcomes;
+                this.count = count;
+                this.totalNanos = totalNanos;
+                this.maxNanos = maxNanos;
+            }
+
+            /**
+             * Upper bound of the bucket holding the percentile; the open-ended bucket reports the maximum.
+             */
+            String percentileLabel(double percentile) {
+                long rank = (long) Math.ceil(percentile * count);
+                long seen = 0;
+                for (int i = 0; i < buckets.length; i++) {
+                    seen += buckets[i];
+                    if (seen >= rank) {
+                        return i < BUCKET_BOUNDS_MILLIS.length
+                                ? "<=" + BUCKET_BOUNDS_MILLIS[i]
+                                : String.valueOf(toMillis(maxNanos));
+                    }
+                }
+                return String.valueOf(toMillis(maxNanos));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.automation.listeners;
 
+import com.automation.api.ApiConnectionPool;
 import com.automation.config.ConfigManager;
 import com.automation.reports.AllureManager;
 import com.automation.reports.ExtentManager;
@@ -29,6 +30,9 @@ public class TestListener implements ITestListener, ISuiteListener {
     @Override
     public void onFinish(ISuite suite) {
         log.info("========== Suite Finished: {} ==========", suite.getName());
+        if (ApiConnectionPool.isInitialized()) {
+            log.info(ApiConnectionPool.getReport());
+        }
         ExtentManager.flushReport();
 
         // Send notifications
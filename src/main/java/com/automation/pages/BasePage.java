@@ -1,8 +1,14 @@
 package com.automation.pages;
 
+import com.automation.config.ConfigManager;
 import com.automation.driver.DriverManager;
 import com.automation.enums.WaitStrategy;
+import com.automation.factory.ElementCondition;
+import com.automation.factory.ElementSnapshot;
 import com.automation.factory.ExplicitWaitFactory;
+import com.automation.factory.FormFill;
+import com.automation.factory.ImplicitWaitController;
+import com.automation.factory.WaitTelemetry;
 import com.automation.utils.ScreenshotUtils;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
@@ -12,8 +18,16 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Base Page - Parent class for all page objects
@@ -26,9 +40,13 @@ public abstract class BasePage {
     protected WebDriver driver;
     protected Actions actions;
     protected JavascriptExecutor jsExecutor;
+    private final boolean waitAfterNavigation;
+    private final ElementCache elements;
 
     protected BasePage() {
         this.driver = DriverManager.getDriver();
+        this.waitAfterNavigation = ConfigManager.getInstance().isPageReadyAfterNavigation();
+        this.elements = new ElementCache(ConfigManager.getInstance().isElementCacheEnabled());
         this.actions = new Actions(driver);
         this.jsExecutor = (JavascriptExecutor) driver;
         PageFactory.initElements(driver, this);
@@ -38,6 +56,8 @@ public abstract class BasePage {
     @Step("Navigate to URL: {url}")
     protected void navigateTo(String url) {
         driver.get(url);
+        elements.clear();
+        waitForPageLoadIfEnabled();
         log.info("Navigated to: {}", url);
     }
 
@@ -51,23 +71,28 @@ public abstract class BasePage {
 
     protected void refreshPage() {
         driver.navigate().refresh();
+        elements.clear();
+        waitForPageLoadIfEnabled();
         log.info("Page refreshed");
     }
 
     protected void navigateBack() {
         driver.navigate().back();
+        elements.clear();
+        waitForPageLoadIfEnabled();
         log.info("Navigated back");
     }
 
     protected void navigateForward() {
         driver.navigate().forward();
+        elements.clear();
+        waitForPageLoadIfEnabled();
         log.info("Navigated forward");
     }
 
     // Element Interaction Methods
     protected void click(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        element.click();
+        onElement("click", locator, waitStrategy, WebElement::click);
         log.debug("Clicked on element: {}", locator);
     }
 
@@ -76,9 +101,10 @@ public abstract class BasePage {
     }
 
     protected void sendKeys(By locator, String text, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        element.clear();
-        element.sendKeys(text);
+        onElement("sendKeys", locator, waitStrategy, element -> {
+            element.clear();
+            element.sendKeys(text);
+        });
         log.debug("Entered text '{}' in element: {}", text, locator);
     }
 
@@ -87,15 +113,45 @@ public abstract class BasePage {
     }
 
     protected void clearAndType(By locator, String text) {
-        WebElement element = ExplicitWaitFactory.waitForVisible(locator);
-        element.clear();
-        element.sendKeys(text);
+        onElement("clearAndType", locator, WaitStrategy.VISIBLE, element -> {
+            element.clear();
+            element.sendKeys(text);
+        });
         log.debug("Cleared and entered text '{}' in element: {}", text, locator);
     }
 
+    /**
+     * Fills a form in one round trip: waits once for every field, then sets all values by script with input and
+     * change events. Fields in typeNatively, and any the script cannot set, are typed with real keystrokes
+     * afterwards, in map order.
+     */
+    protected void fillForm(Map<By, String> values, By... typeNatively) {
+        Set<By> nativeFields = new HashSet<>(Arrays.asList(typeNatively));
+        Map<By, String> scripted = new LinkedHashMap<>();
+        values.forEach((locator, value) -> {
+            if (!nativeFields.contains(locator) && FormFill.supports(driver, locator)) {
+                scripted.put(locator, value);
+            }
+        });
+
+        List<By> remaining = new ArrayList<>();
+        if (!scripted.isEmpty()) {
+            remaining.addAll(measure("fillForm", List.copyOf(scripted.keySet()), WaitStrategy.VISIBLE, () -> {
+                ExplicitWaitFactory.waitForAll(visibleConditions(scripted.keySet().toArray(new By[0])));
+                return FormFill.fill(driver, scripted);
+            }));
+        }
+        // Typed fields are recorded by sendKeys itself, outside the scripted fill's measurement
+        values.forEach((locator, value) -> {
+            if (!scripted.containsKey(locator) || remaining.contains(locator)) {
+                sendKeys(locator, value);
+            }
+        });
+        log.debug("Filled form with {} field(s)", values.size());
+    }
+
     protected String getText(By locator, WaitStrategy waitStrategy) {
-        WebElement element = ExplicitWaitFactory.performExplicitWait(waitStrategy, locator);
-        String text = element.getText();
+        String text = withElement("getText", locator, waitStrategy, WebElement::getText);
         log.debug("Got text '{}' from element: {}", text, locator);
         return text;
     }
@@ -105,86 +161,140 @@ public abstract class BasePage {
     }
 
     protected String getAttribute(By locator, String attribute) {
-        WebElement element = ExplicitWaitFactory.waitForPresence(locator);
-        return element.getAttribute(attribute);
+        return withElement("getAttribute", locator, WaitStrategy.PRESENCE, element -> element.getAttribute(attribute));
     }
 
     protected boolean isDisplayed(By locator) {
         try {
-            return ExplicitWaitFactory.waitForVisible(locator).isDisplayed();
+            return withElement("isDisplayed", locator, WaitStrategy.VISIBLE, WebElement::isDisplayed);
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Checks display state without waiting; use for asserting an element is absent or hidden.
+     */
+    protected boolean isDisplayedNow(By locator) {
+        return measure("isDisplayedNow", locator, WaitStrategy.NONE, () -> ExplicitWaitFactory.isDisplayedNow(locator));
+    }
+
+    protected boolean isPresentNow(By locator) {
+        return measure("isPresentNow", locator, WaitStrategy.NONE, () -> ExplicitWaitFactory.isPresentNow(locator));
+    }
+
+    /**
+     * Waits once for all locators to be visible, instead of one wait per locator.
+     */
+    protected boolean areAllDisplayed(By... locators) {
+        try {
+            ExplicitWaitFactory.waitForAll(visibleConditions(locators));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Waits once for any locator to be visible, paying a single timeout when none appears.
+     */
+    protected boolean isAnyDisplayed(By... locators) {
+        try {
+            ExplicitWaitFactory.waitForAny(visibleConditions(locators));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static ElementCondition[] visibleConditions(By... locators) {
+        return Arrays.stream(locators).map(ElementCondition::visible).toArray(ElementCondition[]::new);
+    }
+
     protected boolean isEnabled(By locator) {
-        return ExplicitWaitFactory.waitForPresence(locator).isEnabled();
+        return withElement("isEnabled", locator, WaitStrategy.PRESENCE, WebElement::isEnabled);
     }
 
     protected boolean isSelected(By locator) {
-        return ExplicitWaitFactory.waitForPresence(locator).isSelected();
+        return withElement("isSelected", locator, WaitStrategy.PRESENCE, WebElement::isSelected);
+    }
+
+    /**
+     * State of the first element matching the locator, read in a single script call instead of one per property.
+     */
+    protected ElementSnapshot snapshot(By locator, String... attributes) {
+        return measure("snapshot", locator, WaitStrategy.NONE, () -> ElementSnapshot.of(driver, locator, attributes));
+    }
+
+    /**
+     * State of the first match of each locator, all read in a single script call.
+     */
+    protected Map<By, ElementSnapshot> snapshot(List<By> locators, String... attributes) {
+        return measure("snapshot", locators, WaitStrategy.NONE, () -> ElementSnapshot.of(driver, locators, attributes));
+    }
+
+    /**
+     * State of every element matching the locator, e.g. all rows of a table, read in a single script call.
+     */
+    protected List<ElementSnapshot> snapshotAll(By locator, String... attributes) {
+        return measure("snapshotAll", locator, WaitStrategy.NONE, () ->
+                ElementSnapshot.ofAll(driver, locator, attributes));
     }
 
     // Dropdown Methods
     protected void selectByVisibleText(By locator, String text) {
-        Select select = new Select(ExplicitWaitFactory.waitForVisible(locator));
-        select.selectByVisibleText(text);
+        onElement("selectByVisibleText", locator, WaitStrategy.VISIBLE, element ->
+                new Select(element).selectByVisibleText(text));
         log.debug("Selected '{}' from dropdown: {}", text, locator);
     }
 
     protected void selectByValue(By locator, String value) {
-        Select select = new Select(ExplicitWaitFactory.waitForVisible(locator));
-        select.selectByValue(value);
+        onElement("selectByValue", locator, WaitStrategy.VISIBLE, element -> new Select(element).selectByValue(value));
         log.debug("Selected value '{}' from dropdown: {}", value, locator);
     }
 
     protected void selectByIndex(By locator, int index) {
-        Select select = new Select(ExplicitWaitFactory.waitForVisible(locator));
-        select.selectByIndex(index);
+        onElement("selectByIndex", locator, WaitStrategy.VISIBLE, element -> new Select(element).selectByIndex(index));
         log.debug("Selected index '{}' from dropdown: {}", index, locator);
     }
 
     protected String getSelectedText(By locator) {
-        Select select = new Select(ExplicitWaitFactory.waitForVisible(locator));
-        return select.getFirstSelectedOption().getText();
+        return withElement("getSelectedText", locator, WaitStrategy.VISIBLE, element ->
+                new Select(element).getFirstSelectedOption().getText());
     }
 
     // Actions Methods
     protected void hoverOver(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForVisible(locator);
-        actions.moveToElement(element).perform();
+        onElement("hoverOver", locator, WaitStrategy.VISIBLE, element -> actions.moveToElement(element).perform());
         log.debug("Hovered over element: {}", locator);
     }
 
     protected void doubleClick(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForClickable(locator);
-        actions.doubleClick(element).perform();
+        onElement("doubleClick", locator, WaitStrategy.CLICKABLE, element -> actions.doubleClick(element).perform());
         log.debug("Double clicked on element: {}", locator);
     }
 
     protected void rightClick(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForClickable(locator);
-        actions.contextClick(element).perform();
+        onElement("rightClick", locator, WaitStrategy.CLICKABLE, element -> actions.contextClick(element).perform());
         log.debug("Right clicked on element: {}", locator);
     }
 
     protected void dragAndDrop(By source, By target) {
-        WebElement sourceElement = ExplicitWaitFactory.waitForVisible(source);
-        WebElement targetElement = ExplicitWaitFactory.waitForVisible(target);
-        actions.dragAndDrop(sourceElement, targetElement).perform();
+        onElement("dragAndDrop", source, WaitStrategy.VISIBLE, sourceElement ->
+                actions.dragAndDrop(sourceElement, elements.resolve(target, WaitStrategy.VISIBLE)).perform());
         log.debug("Drag and drop from {} to {}", source, target);
     }
 
     // JavaScript Methods
     protected void jsClick(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForPresence(locator);
-        jsExecutor.executeScript("arguments[0].click();", element);
+        onElement("jsClick", locator, WaitStrategy.PRESENCE, element ->
+                jsExecutor.executeScript("arguments[0].click();", element));
         log.debug("JS clicked on element: {}", locator);
     }
 
     protected void jsScrollToElement(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForPresence(locator);
-        jsExecutor.executeScript("arguments[0].scrollIntoView(true);", element);
+        onElement("jsScrollToElement", locator, WaitStrategy.PRESENCE, element ->
+                jsExecutor.executeScript("arguments[0].scrollIntoView(true);", element));
         log.debug("Scrolled to element: {}", locator);
     }
 
@@ -199,8 +309,8 @@ public abstract class BasePage {
     }
 
     protected void jsHighlightElement(By locator) {
-        WebElement element = ExplicitWaitFactory.waitForPresence(locator);
-        jsExecutor.executeScript("arguments[0].style.border='3px solid red'", element);
+        elements.apply(locator, WaitStrategy.PRESENCE, element ->
+                jsExecutor.executeScript("arguments[0].style.border='3px solid red'", element));
     }
 
     protected Object executeScript(String script, Object... args) {
@@ -210,26 +320,31 @@ public abstract class BasePage {
     // Frame Handling
     protected void switchToFrame(By locator) {
         ExplicitWaitFactory.waitForFrame(locator);
+        elements.clear();
         log.debug("Switched to frame: {}", locator);
     }
 
     protected void switchToFrame(String nameOrId) {
         ExplicitWaitFactory.waitForFrame(nameOrId);
+        elements.clear();
         log.debug("Switched to frame: {}", nameOrId);
     }
 
     protected void switchToFrame(int index) {
         driver.switchTo().frame(index);
+        elements.clear();
         log.debug("Switched to frame index: {}", index);
     }
 
     protected void switchToDefaultContent() {
         driver.switchTo().defaultContent();
+        elements.clear();
         log.debug("Switched to default content");
     }
 
     protected void switchToParentFrame() {
         driver.switchTo().parentFrame();
+        elements.clear();
         log.debug("Switched to parent frame");
     }
 
@@ -244,6 +359,7 @@ public abstract class BasePage {
 
     protected void switchToWindow(String handle) {
         driver.switchTo().window(handle);
+        elements.clear();
         log.debug("Switched to window: {}", handle);
     }
 
@@ -260,6 +376,7 @@ public abstract class BasePage {
 
     protected void closeCurrentWindow() {
         driver.close();
+        elements.clear();
         log.debug("Closed current window");
     }
 
@@ -289,22 +406,61 @@ public abstract class BasePage {
 
     // Utility Methods
     protected List<WebElement> findElements(By locator) {
-        return driver.findElements(locator);
+        return ImplicitWaitController.findElements(driver, locator);
     }
 
     protected WebElement findElement(By locator) {
-        return ExplicitWaitFactory.waitForPresence(locator);
+        return elements.resolve(locator, WaitStrategy.PRESENCE);
     }
 
     protected int getElementCount(By locator) {
         return findElements(locator).size();
     }
 
+    /**
+     * Waits until the page has loaded and gone quiet: no fetch/XHR in flight and no finite animations running.
+     */
     protected void waitForPageLoad() {
-        jsExecutor.executeScript("return document.readyState").equals("complete");
+        ExplicitWaitFactory.waitForPageReady();
         log.debug("Page load complete");
     }
 
+    private void waitForPageLoadIfEnabled() {
+        if (waitAfterNavigation) {
+            waitForPageLoad();
+        }
+    }
+
+    // Telemetry
+    /**
+     * Runs an interaction and records its duration and outcome in the wait telemetry.
+     */
+    private static <T> T measure(String operation, Object target, WaitStrategy strategy, Supplier<T> interaction) {
+        long start = System.nanoTime();
+        try {
+            T result = interaction.get();
+            WaitTelemetry.record(operation, strategy, target, start, WaitTelemetry.Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            WaitTelemetry.record(operation, strategy, target, start, WaitTelemetry.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Runs an action on the page's cached handle for the locator and records it in the wait telemetry.
+     */
+    private <T> T withElement(String operation, By locator, WaitStrategy strategy, Function<WebElement, T> action) {
+        return measure(operation, locator, strategy, () -> elements.apply(locator, strategy, action));
+    }
+
+    private void onElement(String operation, By locator, WaitStrategy strategy, Consumer<WebElement> action) {
+        withElement(operation, locator, strategy, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
     protected byte[] takeScreenshot() {
         return ScreenshotUtils.captureScreenshotAsBytes();
     }
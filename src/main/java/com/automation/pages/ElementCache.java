@@ -0,0 +1,90 @@
+package com.automation.pages;
+
+import com.automation.enums.WaitStrategy;
+import com.automation.factory.ExplicitWaitFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Element Cache - Element handles of one page object, reused across consecutive actions on the same locator
+ * A cached handle is re-checked against the wait strategy instead of being found again; when the DOM has been
+ * re-rendered and it went stale, the element is located afresh and the action retried once.
+ */
+final class ElementCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ElementCache.class);
+
+    private final boolean enabled;
+    private final Map<By, WebElement> handles = new HashMap<>();
+
+    ElementCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The cached element if it still meets the wait strategy, otherwise the element found by waiting for it.
+     */
+    WebElement resolve(By locator, WaitStrategy strategy) {
+        if (enabled) {
+            WebElement cached = handles.get(locator);
+            if (cached != null && stillMeets(cached, strategy)) {
+                return cached;
+            }
+        }
+        WebElement element = ExplicitWaitFactory.performExplicitWait(strategy, locator);
+        if (enabled && element != null) {
+            handles.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Applies the action to the element, re-locating it once if the handle has gone stale.
+     */
+    <T> T apply(By locator, WaitStrategy strategy, Function<WebElement, T> action) {
+        try {
+            return action.apply(resolve(locator, strategy));
+        } catch (StaleElementReferenceException e) {
+            if (!enabled) {
+                throw e;
+            }
+            // A re-render rarely replaces a single node; drop every handle rather than trip over each in turn
+            log.debug("Element {} went stale, locating it again", locator);
+            clear();
+            return action.apply(resolve(locator, strategy));
+        }
+    }
+
+    /**
+     * Drops all handles, e.g. after navigation or a frame or window switch.
+     */
+    void clear() {
+        handles.clear();
+    }
+
+    private boolean stillMeets(WebElement element, WaitStrategy strategy) {
+        try {
+            switch (strategy) {
+                case CLICKABLE:
+                    return element.isDisplayed() && element.isEnabled();
+                case VISIBLE:
+                    return element.isDisplayed();
+                case PRESENCE:
+                case NONE:
+                    return true;
+                default:
+                    return false;
+            }
+        } catch (StaleElementReferenceException e) {
+            clear();
+            return false;
+        }
+    }
+}
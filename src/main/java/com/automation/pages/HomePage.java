@@ -13,9 +13,11 @@ public class HomePage extends BasePage {
 
     private static final Logger log = LoggerFactory.getLogger(HomePage.class);
 
+    // Shown once logged in; LoginPage waits on it to tell a successful login from a rejected one
+    static final By USER_PROFILE_ICON = By.id("user-profile");
+
     // Locators
     private final By welcomeMessage = By.className("welcome-message");
-    private final By userProfileIcon = By.id("user-profile");
     private final By logoutButton = By.id("logout");
     private final By searchBox = By.id("search");
     private final By navigationMenu = By.id("nav-menu");
@@ -43,19 +45,19 @@ public class HomePage extends BasePage {
     }
 
     public boolean isHomePageDisplayed() {
-        return isDisplayed(welcomeMessage) || isDisplayed(userProfileIcon);
+        return isAnyDisplayed(welcomeMessage, USER_PROFILE_ICON);
     }
 
     @Step("Click User Profile icon")
     public HomePage clickUserProfile() {
-        click(userProfileIcon);
+        click(USER_PROFILE_ICON);
         log.info("User profile clicked");
         return this;
     }
 
     @Step("Click Logout button")
     public LoginPage logout() {
-        click(userProfileIcon);
+        click(USER_PROFILE_ICON);
         click(logoutButton);
         log.info("Logged out successfully");
         return new LoginPage();
@@ -100,7 +102,7 @@ public class HomePage extends BasePage {
     }
 
     public boolean isUserLoggedIn() {
-        return isDisplayed(userProfileIcon);
+        return isDisplayed(USER_PROFILE_ICON);
     }
 
     public String getCurrentPageTitle() {
@@ -1,10 +1,16 @@
 package com.automation.pages;
 
 import com.automation.config.ConfigManager;
+import com.automation.factory.ElementCondition;
+import com.automation.factory.ExplicitWaitFactory;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Login Page - Page Object for Login functionality
@@ -54,11 +60,22 @@ public class LoginPage extends BasePage {
         return new HomePage();
     }
 
+    /**
+     * Enters username and password in one form fill rather than one interaction per field.
+     */
+    @Step("Enter credentials for: {username}")
+    public LoginPage enterCredentials(String username, String password) {
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(usernameField, username);
+        credentials.put(passwordField, password);
+        fillForm(credentials);
+        log.info("Credentials entered for: {}", username);
+        return this;
+    }
+
     @Step("Login with credentials: {username}")
     public HomePage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        return clickLoginButton();
+        return enterCredentials(username, password).clickLoginButton();
     }
 
     @Step("Check Remember Me checkbox")
@@ -82,6 +99,20 @@ public class LoginPage extends BasePage {
         log.info("Sign Up link clicked");
     }
 
+    /**
+     * Waits once for the outcome of a submitted login: the error banner or the logged-in profile icon.
+     * Returns false when neither appears.
+     */
+    public boolean isLoginRejected() {
+        ElementCondition rejected = ElementCondition.visible(errorMessage);
+        try {
+            return ExplicitWaitFactory.waitForFirst(rejected, ElementCondition.visible(HomePage.USER_PROFILE_ICON))
+                    .isMatched(rejected);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
     public String getErrorMessage() {
         return getText(errorMessage);
     }
@@ -91,7 +122,7 @@ public class LoginPage extends BasePage {
     }
 
     public boolean isLoginPageDisplayed() {
-        return isDisplayed(usernameField) && isDisplayed(passwordField);
+        return areAllDisplayed(usernameField, passwordField);
     }
 
     public String getPageTitle() {
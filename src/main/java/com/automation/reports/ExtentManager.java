@@ -4,6 +4,7 @@ import com.automation.config.ConfigManager;
 import com.automation.constants.FrameworkConstants;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.slf4j.Logger;
@@ -77,6 +78,15 @@ public class ExtentManager {
         }
     }
 
+    /**
+     * Adds a standalone report entry holding a table, e.g. suite-level summaries. Not bound to the current test.
+     */
+    public static void addTable(String title, String[][] rows) {
+        if (extent != null) {
+            extent.createTest(title).info(MarkupHelper.createTable(rows));
+        }
+    }
+
     public static void removeTest() {
         extentTest.remove();
     }
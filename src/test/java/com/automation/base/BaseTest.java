@@ -2,6 +2,9 @@ package com.automation.base;
 
 import com.automation.config.ConfigManager;
 import com.automation.driver.DriverManager;
+import com.automation.factory.AdaptivePoller;
+import com.automation.factory.ImplicitWaitController;
+import com.automation.factory.WaitTelemetry;
 import com.automation.reports.AllureManager;
 import com.automation.reports.ExtentManager;
 import io.qameta.allure.Allure;
@@ -24,6 +27,7 @@ public abstract class BaseTest {
     public void beforeSuite() {
         log.info("========== Test Suite Starting ==========");
         ExtentManager.initReport();
+        DriverManager.warmUp();
     }
 
     @BeforeClass(alwaysRun = true)
@@ -67,11 +71,34 @@ public abstract class BaseTest {
                 break;
         }
 
+        reportImplicitWaitCost();
+
         // Quit driver
         DriverManager.quitDriver();
         log.info("<<< Finished Test: {}", testName);
     }
 
+    private void reportImplicitWaitCost() {
+        String report = ImplicitWaitController.getTestReport();
+        log.info(report);
+        if (ExtentManager.getTest() != null) {
+            ExtentManager.logInfo(report);
+        }
+        AllureManager.attachText("Implicit Wait Cost", report);
+        ImplicitWaitController.reset();
+    }
+
+    private void reportSlowestWaits() {
+        if (!WaitTelemetry.isEnabled()) {
+            return;
+        }
+        int top = ConfigManager.getInstance().getWaitTelemetryTopCount();
+        String report = WaitTelemetry.getSlowestReport(top);
+        log.info("Slowest waits:{}{}", System.lineSeparator(), report);
+        ExtentManager.addTable("Slowest Waits", WaitTelemetry.getSlowestTable(top));
+        AllureManager.attachText("Slowest Waits", report);
+    }
+
     @AfterClass(alwaysRun = true)
     public void afterClass() {
         log.info("Test Class Completed: {}", this.getClass().getSimpleName());
@@ -79,6 +106,9 @@ public abstract class BaseTest {
 
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
+        DriverManager.shutdown();
+        AdaptivePoller.saveHistory();
+        reportSlowestWaits();
         ExtentManager.flushReport();
         log.info("========== Test Suite Completed ==========");
         log.info("Extent Report: {}", ExtentManager.getReportPath());
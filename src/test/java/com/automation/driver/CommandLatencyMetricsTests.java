@@ -0,0 +1,58 @@
+package com.automation.driver;
+
+import com.automation.constants.FrameworkConstants;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Command Latency Metrics Tests - Normalisation of WebDriver command paths into per-command latency keys
+ */
+@Epic("Framework")
+@Feature("Command Latency")
+public class CommandLatencyMetricsTests {
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION}, dataProvider = "paths")
+    @Story("Path Normalisation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify session, element and shadow ids are replaced and command names are kept")
+    public void testNormalize(String path, String expected) {
+        Assert.assertEquals(CommandLatencyMetrics.normalize(path), expected);
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Path Normalisation")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Verify commands on different sessions and elements share one summary line")
+    public void testSummaryGroupsByNormalizedPath() {
+        CommandLatencyMetrics metrics = new CommandLatencyMetrics();
+        metrics.record("POST", "/session/a1/element/e1/click", 2_000_000);
+        metrics.record("POST", "/session/b2/element/e2/click", 4_000_000);
+
+        String summary = metrics.getSummary();
+
+        Assert.assertTrue(summary.startsWith("POST /session/{id}/element/{id}/click - count: 2, avg: 3.0ms"),
+                summary);
+    }
+
+    @DataProvider(name = "paths")
+    public Object[][] getPaths() {
+        return new Object[][] {
+                { "/session", "/session" },
+                { "/session/4f2a/url", "/session/{id}/url" },
+                { "/session/4f2a/element", "/session/{id}/element" },
+                { "/session/4f2a/elements", "/session/{id}/elements" },
+                { "/session/4f2a/element/active", "/session/{id}/element/active" },
+                { "/session/4f2a/element/e-1/click", "/session/{id}/element/{id}/click" },
+                { "/session/4f2a/element/e-1/element", "/session/{id}/element/{id}/element" },
+                { "/session/4f2a/element/e-1/shadow", "/session/{id}/element/{id}/shadow" },
+                { "/session/4f2a/shadow/s-9/element", "/session/{id}/shadow/{id}/element" },
+                { "/session/4f2a/window/handles", "/session/{id}/window/handles" },
+                { "/session/4f2a/frame/parent", "/session/{id}/frame/parent" },
+                { "/session/4f2a/cookie/token", "/session/{id}/cookie/token" },
+                { "/session/4f2a/element/e-1/attribute/value", "/session/{id}/element/{id}/attribute/value" },
+                { "/session/4f2a/execute/sync?debug=1", "/session/{id}/execute/sync" }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.automation.driver;
+
+import com.automation.constants.FrameworkConstants;
+import io.qameta.allure.*;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Driver Binary Resolver Tests - Which session creation failures justify re-resolving the driver binary
+ */
+@Epic("Framework")
+@Feature("Driver Binaries")
+public class DriverBinaryResolverTests {
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION})
+    @Story("Re-resolution")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify driver and browser version mismatches are recognised")
+    public void testVersionMismatchRecognised() {
+        Assert.assertTrue(DriverBinaryResolver.isVersionMismatch(new SessionNotCreatedException(
+                "session not created: This version of ChromeDriver only supports Chrome version 114\n"
+                        + "Current browser version is 120.0.6099.109 with binary path /usr/bin/google-chrome")));
+        Assert.assertTrue(DriverBinaryResolver.isVersionMismatch(new SessionNotCreatedException(
+                "session not created: This version of Microsoft Edge WebDriver only supports "
+                        + "Microsoft Edge version 118")));
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Re-resolution")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify other session creation failures do not trigger a re-resolve")
+    public void testOtherFailuresNotTreatedAsMismatch() {
+        Assert.assertFalse(DriverBinaryResolver.isVersionMismatch(new SessionNotCreatedException(
+                "session not created: Chrome failed to start: crashed.")));
+        Assert.assertFalse(DriverBinaryResolver.isVersionMismatch(new SessionNotCreatedException(
+                "Could not start a new session. Possible causes are invalid address of the remote server "
+                        + "or browser start-up failure.")));
+        Assert.assertFalse(DriverBinaryResolver.isVersionMismatch(new SessionNotCreatedException(
+                "session not created: invalid argument: unrecognized capability: goog:foo")));
+        Assert.assertFalse(DriverBinaryResolver.isVersionMismatch(new RuntimeException((String) null)));
+    }
+}
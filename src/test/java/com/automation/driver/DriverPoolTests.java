@@ -0,0 +1,294 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.constants.FrameworkConstants;
+import com.automation.exceptions.FrameworkException;
+import io.qameta.allure.*;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Driver Pool Tests - Lease, reuse, reset and retirement of pooled sessions against in-memory stand-in browsers
+ */
+@Epic("Framework")
+@Feature("Driver Pool")
+public class DriverPoolTests {
+
+    private static final Map<String, String> OVERRIDES = Map.of(
+            "driver.pool.size", "1",
+            "driver.pool.max.uses", "3",
+            "driver.pool.lease.timeout", "1",
+            "driver.teardown.async", "false");
+
+    private final List<FakeBrowser> browsers = new ArrayList<>();
+    private DriverPool pool;
+
+    @BeforeClass
+    public void overrideConfig() {
+        OVERRIDES.forEach(System::setProperty);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreConfig() {
+        OVERRIDES.keySet().forEach(System::clearProperty);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        browsers.clear();
+    }
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION})
+    @Story("Reset")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a returned session is reused only after cookies and storage of every visited origin are gone")
+    public void testReleasedSessionIsFullyResetAndReused() {
+        pool = newPool(() -> new FakeBrowser(true));
+        PooledDriver first = pool.lease();
+        FakeBrowser browser = browsers.get(0);
+        WebDriver driver = first.getDriver();
+        driver.get("https://app.test/login");
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.get("http://other.test:8080/popup");
+        browser.cookieDomains.add(".tracker.test");
+
+        pool.release(first);
+        PooledDriver second = pool.lease();
+
+        Assert.assertSame(second.getDriver(), driver, "Expected the pooled session to be reused");
+        Assert.assertEquals(pool.getLaunches(), 1);
+        Assert.assertEquals(pool.getHits(), 1);
+        Assert.assertEquals(browser.tabs.size(), 1, "Expected a single tab after reset");
+        Assert.assertTrue(browser.tabs.get(browser.current).isEmpty(), "Expected a fresh tab without history");
+        Assert.assertEquals(new LinkedHashSet<>(browser.clearedOrigins), new LinkedHashSet<>(List.of(
+                "https://app.test", "http://other.test:8080", "http://tracker.test", "https://tracker.test")));
+        Assert.assertEquals(browser.cookieClears, 1);
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Reset")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify sessions that cannot be reset over CDP are retired instead of reused")
+    public void testSessionWithoutCdpIsRetired() {
+        pool = newPool(() -> new FakeBrowser(false));
+        PooledDriver first = pool.lease();
+
+        pool.release(first);
+        PooledDriver second = pool.lease();
+
+        Assert.assertTrue(browsers.get(0).quit, "Expected the session without CDP to be quit");
+        Assert.assertNotSame(second.getDriver(), first.getDriver());
+        Assert.assertEquals(pool.getLaunches(), 2);
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.REGRESSION})
+    @Story("Reset")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a session whose reset fails is quit and replaced")
+    public void testFailedResetDiscardsSession() {
+        pool = newPool(() -> new FakeBrowser(true));
+        PooledDriver first = pool.lease();
+        first.getDriver().get("https://app.test/");
+        browsers.get(0).failCdp = true;
+
+        pool.release(first);
+        pool.lease();
+
+        Assert.assertTrue(browsers.get(0).quit, "Expected the session to be quit after a failed reset");
+        Assert.assertEquals(pool.getLaunches(), 2);
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.REGRESSION})
+    @Story("Lease")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a session is retired once it reaches driver.pool.max.uses")
+    public void testSessionRetiredAfterMaxUses() {
+        pool = newPool(() -> new FakeBrowser(true));
+        for (int i = 0; i < 3; i++) {
+            pool.release(pool.lease());
+        }
+
+        Assert.assertTrue(browsers.get(0).quit, "Expected the session to be quit after max uses");
+        pool.lease();
+        Assert.assertEquals(pool.getLaunches(), 2);
+    }
+
+    @Test(priority = 5, groups = {FrameworkConstants.REGRESSION})
+    @Story("Lease")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify leasing from an exhausted pool fails after the lease timeout")
+    public void testLeaseTimesOutWhenPoolExhausted() {
+        pool = newPool(() -> new FakeBrowser(true));
+        pool.lease();
+
+        long start = System.currentTimeMillis();
+        Assert.assertThrows(FrameworkException.class, pool::lease);
+        long waited = System.currentTimeMillis() - start;
+
+        Assert.assertTrue(waited >= 900 && waited < 5000, "Expected to wait about the 1s lease timeout: " + waited);
+        Assert.assertEquals(pool.getLaunches(), 1);
+    }
+
+    @Test(priority = 6, groups = {FrameworkConstants.REGRESSION})
+    @Story("Lease")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a session that fails its health check is replaced on lease")
+    public void testDeadSessionReplacedOnLease() {
+        pool = newPool(() -> new FakeBrowser(true));
+        PooledDriver first = pool.lease();
+        pool.release(first);
+        browsers.get(0).dead = true;
+
+        PooledDriver second = pool.lease();
+
+        Assert.assertNotSame(second.getDriver(), first.getDriver());
+        Assert.assertEquals(pool.getLaunches(), 2);
+    }
+
+    @Test(priority = 7, groups = {FrameworkConstants.REGRESSION})
+    @Story("Warm-up")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify warming up with a count of zero or less launches nothing and does not fail")
+    public void testWarmUpWithoutSessionsIsNoOp() {
+        pool = newPool(() -> new FakeBrowser(true));
+
+        pool.warmUp(0);
+        pool.warmUp(-1);
+
+        Assert.assertEquals(pool.getLaunches(), 0);
+    }
+
+    private DriverPool newPool(Supplier<FakeBrowser> launcher) {
+        return new DriverPool(ConfigManager.getInstance(), () -> {
+            FakeBrowser browser = launcher.get();
+            browsers.add(browser);
+            return browser.driver;
+        });
+    }
+
+    /**
+     * In-memory browser: tabs with navigation history, cookie domains, and a record of the CDP clears it received
+     */
+    private static final class FakeBrowser implements InvocationHandler {
+
+        private static final AtomicInteger handles = new AtomicInteger();
+
+        private final Map<String, List<String>> tabs = new LinkedHashMap<>();
+        private final List<String> cookieDomains = new ArrayList<>();
+        private final List<String> clearedOrigins = new ArrayList<>();
+        private final WebDriver driver;
+        private String current;
+        private int cookieClears;
+        private boolean quit;
+        private boolean dead;
+        private boolean failCdp;
+
+        FakeBrowser(boolean cdp) {
+            current = openTab();
+            Class<?>[] interfaces = cdp
+                    ? new Class<?>[]{WebDriver.class, HasCdp.class}
+                    : new Class<?>[]{WebDriver.class};
+            driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, this);
+        }
+
+        private String openTab() {
+            String handle = "tab-" + handles.incrementAndGet();
+            tabs.put(handle, new ArrayList<>());
+            return handle;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "FakeBrowser" + tabs.keySet();
+                case "switchTo":
+                case "manage":
+                    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{method.getReturnType()},
+                            this);
+                case "window":
+                    if (args == null) {
+                        return Proxy.newProxyInstance(getClass().getClassLoader(),
+                                new Class<?>[]{method.getReturnType()}, this);
+                    }
+                    current = (String) args[0];
+                    return driver;
+                case "newWindow":
+                    current = openTab();
+                    return driver;
+                case "getWindowHandle":
+                    if (dead || quit) {
+                        throw new NoSuchSessionException("Session is gone");
+                    }
+                    return current;
+                case "getWindowHandles":
+                    return new LinkedHashSet<>(tabs.keySet());
+                case "get":
+                    tabs.get(current).add((String) args[0]);
+                    return null;
+                case "close":
+                    tabs.remove(current);
+                    return null;
+                case "quit":
+                    quit = true;
+                    return null;
+                case "executeCdpCommand":
+                    return cdp((String) args[0], (Map<?, ?>) args[1]);
+                default:
+                    return null;
+            }
+        }
+
+        private Map<String, Object> cdp(String command, Map<?, ?> params) {
+            if (failCdp) {
+                throw new WebDriverException("CDP connection lost");
+            }
+            switch (command) {
+                case "Page.getNavigationHistory":
+                    List<Map<String, Object>> entries = new ArrayList<>();
+                    tabs.get(current).forEach(url -> entries.add(Map.of("url", url)));
+                    return Map.of("currentIndex", entries.size() - 1, "entries", entries);
+                case "Network.getAllCookies":
+                    List<Map<String, Object>> cookies = new ArrayList<>();
+                    cookieDomains.forEach(domain -> cookies.add(Map.of("domain", domain)));
+                    return Map.of("cookies", cookies);
+                case "Storage.clearDataForOrigin":
+                    clearedOrigins.add((String) params.get("origin"));
+                    return Map.of();
+                case "Network.clearBrowserCookies":
+                    cookieDomains.clear();
+                    cookieClears++;
+                    return Map.of();
+                default:
+                    throw new WebDriverException("Unexpected CDP command " + command);
+            }
+        }
+    }
+}
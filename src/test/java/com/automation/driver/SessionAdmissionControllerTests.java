@@ -0,0 +1,223 @@
+package com.automation.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.constants.FrameworkConstants;
+import com.automation.exceptions.SessionAdmissionException;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Session Admission Controller Tests - Circuit breaker transitions and queueing of session creations
+ */
+@Epic("Framework")
+@Feature("Session Admission")
+public class SessionAdmissionControllerTests {
+
+    private static final List<String> OVERRIDDEN = List.of("driver.session.max.inflight",
+            "driver.session.queue.timeout", "driver.session.circuit.failures", "driver.session.circuit.cooldown");
+
+    private final AtomicInteger creations = new AtomicInteger();
+    private ExecutorService callers;
+
+    @BeforeMethod
+    public void startCallers() {
+        creations.set(0);
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopCallers() {
+        callers.shutdownNow();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreConfig() {
+        OVERRIDDEN.forEach(System::clearProperty);
+    }
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the circuit stays closed while failures stay below the threshold")
+    public void testClosedCircuitAdmitsBelowThreshold() {
+        SessionAdmissionController controller = newController(1, 2);
+
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+
+        Assert.assertEquals(creations.get(), 4, "Expected every creation to run while the circuit is closed");
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify the circuit opens at the failure threshold and rejects without attempting a creation")
+    public void testCircuitOpensAtThreshold() {
+        SessionAdmissionController controller = newController(1, 2);
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+
+        SessionAdmissionException rejected = Assert.expectThrows(SessionAdmissionException.class,
+                () -> controller.admit(this::succeed));
+
+        Assert.assertEquals(creations.get(), 2, "Expected no creation while the circuit is open");
+        Assert.assertTrue(rejected.getCause() instanceof IllegalStateException, "Expected the last failure as cause");
+        Assert.assertTrue(controller.getStats().contains("circuit opened: 1 times"), controller.getStats());
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a successful half-open probe closes the circuit")
+    public void testSuccessfulProbeClosesCircuit() throws InterruptedException {
+        SessionAdmissionController controller = newController(1, 1);
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Thread.sleep(1100);
+
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+        Assert.assertEquals(creations.get(), 3);
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a failed half-open probe reopens the circuit for another cooldown")
+    public void testFailedProbeReopensCircuit() throws InterruptedException {
+        SessionAdmissionController controller = newController(1, 1);
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Thread.sleep(1100);
+
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Assert.assertThrows(SessionAdmissionException.class, () -> controller.admit(this::succeed));
+
+        Assert.assertEquals(creations.get(), 2, "Expected only the probe to run after the cooldown");
+        Assert.assertTrue(controller.getStats().contains("circuit opened: 2 times"), controller.getStats());
+    }
+
+    @Test(priority = 5, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a probe that throws an Error frees the half-open slot for the next caller")
+    public void testProbeErrorReleasesProbe() throws InterruptedException {
+        SessionAdmissionController controller = newController(1, 1);
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Thread.sleep(1100);
+
+        Assert.assertThrows(AssertionError.class, () -> controller.admit(() -> {
+            throw new AssertionError("Launcher bug");
+        }));
+
+        Assert.assertEquals(controller.admit(this::succeed), "session", "Expected the next caller to probe");
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+    }
+
+    @Test(priority = 6, groups = {FrameworkConstants.REGRESSION})
+    @Story("Circuit Breaker")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify only one probe runs while the circuit is half-open")
+    public void testSingleProbeWhileHalfOpen() throws Exception {
+        SessionAdmissionController controller = newController(2, 1);
+        Assert.assertThrows(IllegalStateException.class, () -> controller.admit(this::fail));
+        Thread.sleep(1100);
+
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch finishProbe = new CountDownLatch(1);
+        Future<String> probe = callers.submit(() -> controller.admit(() -> {
+            probing.countDown();
+            await(finishProbe);
+            return succeed();
+        }));
+        Assert.assertTrue(probing.await(5, TimeUnit.SECONDS), "Expected the probe to start");
+
+        Assert.assertThrows(SessionAdmissionException.class, () -> controller.admit(this::succeed));
+
+        finishProbe.countDown();
+        Assert.assertEquals(probe.get(5, TimeUnit.SECONDS), "session");
+        Assert.assertEquals(controller.admit(this::succeed), "session");
+    }
+
+    @Test(priority = 7, groups = {FrameworkConstants.REGRESSION})
+    @Story("Queueing")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify callers queued for a slot fail fast once the circuit opens")
+    public void testQueuedCallerFailsFastWhenCircuitOpens() throws Exception {
+        SessionAdmissionController controller = newController(2, 1);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch failNow = new CountDownLatch(1);
+        callers.submit(() -> controller.admit(() -> {
+            running.countDown();
+            await(release);
+            return succeed();
+        }));
+        Future<String> failing = callers.submit(() -> controller.admit(() -> {
+            running.countDown();
+            await(failNow);
+            return fail();
+        }));
+        Assert.assertTrue(running.await(5, TimeUnit.SECONDS), "Expected both slots to be taken");
+
+        AtomicInteger queuedCreations = new AtomicInteger();
+        Future<String> queued = callers.submit(() -> controller.admit(() -> {
+            queuedCreations.incrementAndGet();
+            return "session";
+        }));
+        Thread.sleep(300);
+        Assert.assertFalse(queued.isDone(), "Expected the caller to be queued for a slot");
+
+        long start = System.currentTimeMillis();
+        failNow.countDown();
+        ExecutionException error = Assert.expectThrows(ExecutionException.class,
+                () -> queued.get(5, TimeUnit.SECONDS));
+        long waited = System.currentTimeMillis() - start;
+        release.countDown();
+
+        Assert.assertTrue(error.getCause() instanceof SessionAdmissionException, String.valueOf(error.getCause()));
+        Assert.assertTrue(waited < 1000, "Expected the queued caller to fail well before the queue timeout: "
+                + waited);
+        Assert.assertEquals(queuedCreations.get(), 0);
+        Assert.assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+    }
+
+    private SessionAdmissionController newController(int maxInFlight, int failureThreshold) {
+        System.setProperty("driver.session.max.inflight", String.valueOf(maxInFlight));
+        System.setProperty("driver.session.queue.timeout", "10");
+        System.setProperty("driver.session.circuit.failures", String.valueOf(failureThreshold));
+        System.setProperty("driver.session.circuit.cooldown", "1");
+        return new SessionAdmissionController(ConfigManager.getInstance());
+    }
+
+    private String succeed() {
+        creations.incrementAndGet();
+        return "session";
+    }
+
+    private String fail() {
+        creations.incrementAndGet();
+        throw new IllegalStateException("Grid refused the session");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.automation.factory;
+
+import com.automation.constants.FrameworkConstants;
+import com.automation.enums.WaitStrategy;
+import com.automation.factory.WaitTelemetry.Outcome;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wait Telemetry Tests - Histogram buckets, percentiles, reset and lookup cache eviction on a private store
+ */
+@Epic("Framework")
+@Feature("Wait Telemetry")
+public class WaitTelemetryTests {
+
+    private static final int COUNT = 3;
+    private static final int TOTAL_MS = 4;
+    private static final int P95 = 6;
+    private static final int MAX_MS = 7;
+    private static final int TIMEOUTS = 8;
+    private static final int FAILURES = 9;
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION})
+    @Story("Histograms")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify p95 reports the upper bound of the bucket holding the 95th percentile")
+    public void testPercentileBucket() {
+        WaitTelemetry.Store store = new WaitTelemetry.Store(16);
+        By fast = By.id("fast");
+        By mixed = By.id("mixed");
+        for (int i = 0; i < 19; i++) {
+            store.record("click", WaitStrategy.CLICKABLE, fast, millis(3), Outcome.SUCCESS);
+        }
+        store.record("click", WaitStrategy.CLICKABLE, fast, millis(400), Outcome.SUCCESS);
+        for (int i = 0; i < 18; i++) {
+            store.record("click", WaitStrategy.CLICKABLE, mixed, millis(3), Outcome.SUCCESS);
+        }
+        store.record("click", WaitStrategy.CLICKABLE, mixed, millis(400), Outcome.SUCCESS);
+        store.record("click", WaitStrategy.CLICKABLE, mixed, millis(400), Outcome.SUCCESS);
+
+        String[][] table = store.getSlowestTable(10);
+
+        Assert.assertEquals(row(table, fast)[COUNT], "20");
+        Assert.assertEquals(row(table, fast)[P95], "<=5");
+        Assert.assertEquals(row(table, fast)[MAX_MS], "400");
+        Assert.assertEquals(row(table, mixed)[P95], "<=500");
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Histograms")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify durations past the last bound land in the open-ended bucket, reported as the maximum")
+    public void testOpenEndedBucketReportsMaximum() {
+        WaitTelemetry.Store store = new WaitTelemetry.Store(16);
+        By slow = By.id("slow");
+        store.record("wait:visible", WaitStrategy.VISIBLE, slow, millis(75000), Outcome.TIMEOUT);
+        store.record("wait:visible", WaitStrategy.VISIBLE, slow, millis(61000), Outcome.FAILURE);
+
+        String[] row = row(store.getSlowestTable(10), slow);
+
+        Assert.assertEquals(row[P95], "75000");
+        Assert.assertEquals(row[MAX_MS], "75000");
+        Assert.assertEquals(row[TOTAL_MS], "136000");
+        Assert.assertEquals(row[TIMEOUTS], "1");
+        Assert.assertEquals(row[FAILURES], "1");
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.REGRESSION})
+    @Story("Histograms")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify equal locators recorded on different threads share one row, slowest rows first")
+    public void testThreadsShareHistogramsAndRowsAreSorted() {
+        WaitTelemetry.Store store = new WaitTelemetry.Store(16);
+        store.record("click", WaitStrategy.CLICKABLE, By.id("shared"), millis(10), Outcome.SUCCESS);
+        CompletableFuture.runAsync(() ->
+                store.record("click", WaitStrategy.CLICKABLE, By.id("shared"), millis(10), Outcome.SUCCESS)).join();
+        store.record("click", WaitStrategy.CLICKABLE, By.id("other"), millis(5), Outcome.SUCCESS);
+        store.record("getText", WaitStrategy.VISIBLE, By.id("shared"), millis(1), Outcome.SUCCESS);
+
+        String[][] table = store.getSlowestTable(2);
+
+        Assert.assertEquals(table.length, 3, "Expected a header and the two slowest rows");
+        Assert.assertEquals(table[1][2], "By.id: shared");
+        Assert.assertEquals(table[1][COUNT], "2");
+        Assert.assertEquals(table[2][2], "By.id: other");
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.REGRESSION})
+    @Story("Reset")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a thread that cached a histogram before a reset keeps recording into it afterwards")
+    public void testResetWhileThreadsCacheSlots() {
+        WaitTelemetry.Store store = new WaitTelemetry.Store(16);
+        By locator = By.id("cached");
+        Runnable recordOnWorker = () -> store.record("click", WaitStrategy.CLICKABLE, locator, millis(2),
+                Outcome.SUCCESS);
+        // One worker thread, so its lookup cache survives the reset
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.runAsync(recordOnWorker, worker).join();
+
+            store.reset();
+            Assert.assertEquals(WaitTelemetry.format(store.getSlowestTable(10)), "No waits recorded");
+
+            CompletableFuture.runAsync(recordOnWorker, worker).join();
+            Assert.assertEquals(row(store.getSlowestTable(10), locator)[COUNT], "1");
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    @Test(priority = 5, groups = {FrameworkConstants.REGRESSION})
+    @Story("Lookup Cache")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the thread's lookup cache is dropped at its limit without losing recorded counts")
+    public void testCacheEvictionKeepsCounts() {
+        WaitTelemetry.Store store = new WaitTelemetry.Store(4);
+        By first = By.id("field-0");
+        store.record("click", WaitStrategy.CLICKABLE, first, millis(1), Outcome.SUCCESS);
+        for (int i = 1; i < 4; i++) {
+            store.record("click", WaitStrategy.CLICKABLE, By.id("field-" + i), millis(1), Outcome.SUCCESS);
+        }
+        Assert.assertEquals(store.cachedTargets(), 4);
+
+        store.record("click", WaitStrategy.CLICKABLE, By.id("field-4"), millis(1), Outcome.SUCCESS);
+        Assert.assertEquals(store.cachedTargets(), 1, "Expected the full cache to be dropped for a new target");
+
+        store.record("click", WaitStrategy.CLICKABLE, first, millis(1), Outcome.SUCCESS);
+        Assert.assertEquals(store.cachedTargets(), 2);
+        Assert.assertEquals(row(store.getSlowestTable(10), first)[COUNT], "2");
+        Assert.assertEquals(store.getSlowestTable(10).length, 6);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static String[] row(String[][] table, By locator) {
+        for (int i = 1; i < table.length; i++) {
+            if (table[i][2].equals(locator.toString())) {
+                return table[i];
+            }
+        }
+        throw new AssertionError("No row for " + locator);
+    }
+}
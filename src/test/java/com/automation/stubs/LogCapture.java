@@ -0,0 +1,55 @@
+package com.automation.stubs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Log Capture - Collects the messages one logger writes on the calling thread until closed
+ * Only the creating thread's events are kept, so tests running in parallel do not see each other's output.
+ */
+public class LogCapture implements AutoCloseable {
+
+    private static final AtomicInteger captures = new AtomicInteger();
+
+    private final LoggerConfig loggerConfig;
+    private final AbstractAppender appender;
+    private final Queue<String> messages = new ConcurrentLinkedQueue<>();
+
+    public LogCapture(Class<?> loggerClass) {
+        String loggerName = loggerClass.getName();
+        long threadId = Thread.currentThread().threadId();
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        loggerConfig = context.getConfiguration().getLoggerConfig(loggerName);
+        appender = new AbstractAppender("LogCapture-" + captures.incrementAndGet(), null, null, true,
+                Property.EMPTY_ARRAY) {
+            @Override
+            public void append(LogEvent event) {
+                if (loggerName.equals(event.getLoggerName()) && event.getThreadId() == threadId) {
+                    messages.add(event.getMessage().getFormattedMessage());
+                }
+            }
+        };
+        appender.start();
+        loggerConfig.addAppender(appender, null, null);
+    }
+
+    public List<String> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    @Override
+    public void close() {
+        loggerConfig.removeAppender(appender.getName());
+        appender.stop();
+    }
+}
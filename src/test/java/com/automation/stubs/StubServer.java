@@ -0,0 +1,102 @@
+package com.automation.stubs;
+
+import com.automation.exceptions.FrameworkException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub Server - Minimal local HTTP server for tests that must run without external services
+ */
+public class StubServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StubServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public StubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start stub server", e);
+        }
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        log.info("Stub server started at {}", getBaseUrl());
+    }
+
+    /**
+     * Serves a fixed status and JSON body on the path (and everything below it).
+     */
+    public StubServer stub(String path, int status, String body) {
+        return stub(path, exchange -> respond(exchange, status, body));
+    }
+
+    public StubServer stub(String path, int status, String contentType, String body) {
+        return stub(path, exchange -> respond(exchange, status, contentType, body));
+    }
+
+    public StubServer stub(String path, StubHandler handler) {
+        server.createContext(path, exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                handler.handle(exchange);
+            } catch (Exception e) {
+                respond(exchange, 500, "{\"error\":\"" + e.getMessage() + "\"}");
+            } finally {
+                exchange.close();
+            }
+        });
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, "application/json", body);
+    }
+
+    public static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Stub server stopped");
+    }
+
+    /**
+     * Request handler for a stubbed path
+     */
+    @FunctionalInterface
+    public interface StubHandler {
+        void handle(HttpExchange exchange) throws Exception;
+    }
+}
@@ -0,0 +1,275 @@
+package com.automation.tests;
+
+import com.automation.api.ApiClient;
+import com.automation.api.ApiConnectionPool;
+import com.automation.api.AsyncApiClient;
+import com.automation.constants.FrameworkConstants;
+import com.automation.exceptions.FrameworkException;
+import com.automation.stubs.StubServer;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API Client Concurrency Tests - Clients for different hosts and headers used at once from many threads
+ */
+@Epic("API Testing")
+@Feature("API Client")
+public class ApiClientConcurrencyTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiClientConcurrencyTests.class);
+
+    private static final int SERVERS = 4;
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 25;
+    private static final int FAN_OUT = 1000;
+    private static final long SLOW_MILLIS = 3000;
+
+    private final List<StubServer> servers = new ArrayList<>();
+
+    @BeforeClass
+    public void startServers() {
+        for (int i = 0; i < SERVERS; i++) {
+            String server = String.valueOf(i);
+            servers.add(new StubServer().stub("/whoami", exchange -> {
+                String tenant = exchange.getRequestHeaders().getFirst("X-Tenant");
+                String query = exchange.getRequestURI().getQuery();
+                StubServer.respond(exchange, 200, String.format("{\"server\":\"%s\",\"tenant\":\"%s\",\"query\":\"%s\"}",
+                        server, tenant == null ? "" : tenant, query == null ? "" : query));
+            }).stub("/slow", exchange -> {
+                Thread.sleep(SLOW_MILLIS);
+                StubServer.respond(exchange, 200, "{\"server\":\"" + server + "\"}");
+            }));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServers() {
+        servers.forEach(StubServer::close);
+        servers.clear();
+    }
+
+    @Test(priority = 1, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Thread Safety")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify clients created concurrently for different hosts never send to each other's host")
+    public void testClientsCreatedPerRequestStayIsolated() throws Exception {
+        Queue<String> mismatches = runConcurrently((thread, i) -> {
+            int server = (thread + i) % SERVERS;
+            ApiClient client = new ApiClient(servers.get(server).getBaseUrl()).withHeader("X-Tenant", "t" + thread);
+            return verify(client.get("/whoami"), server, "t" + thread);
+        });
+
+        Assert.assertTrue(mismatches.isEmpty(), "Requests crossed clients: " + mismatches);
+        Assert.assertEquals(totalRequests(), THREADS * REQUESTS_PER_THREAD);
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Thread Safety")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify shared clients can be used and specialized from many threads at once")
+    public void testSharedClientsStayIsolated() throws Exception {
+        List<ApiClient> shared = new ArrayList<>();
+        servers.forEach(server -> shared.add(new ApiClient(server.getBaseUrl())));
+
+        Queue<String> mismatches = runConcurrently((thread, i) -> {
+            int server = (thread * 3 + i) % SERVERS;
+            ApiClient client = shared.get(server).withHeader("X-Tenant", "t" + thread);
+            return verify(client.get("/whoami"), server, "t" + thread);
+        });
+
+        Assert.assertTrue(mismatches.isEmpty(), "Requests crossed clients: " + mismatches);
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Immutability")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify with* methods return a new client and leave the original unchanged")
+    public void testWithMethodsDoNotMutateClient() {
+        ApiClient base = new ApiClient(servers.get(0).getBaseUrl());
+        ApiClient derived = base.withHeader("X-Tenant", "derived").withQueryParam("page", "2");
+
+        Response derivedResponse = derived.get("/whoami");
+        Response baseResponse = base.get("/whoami");
+
+        Assert.assertEquals(derivedResponse.jsonPath().getString("tenant"), "derived");
+        Assert.assertEquals(derivedResponse.jsonPath().getString("query"), "page=2");
+        Assert.assertEquals(baseResponse.jsonPath().getString("tenant"), "");
+        Assert.assertEquals(baseResponse.jsonPath().getString("query"), "");
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.API, FrameworkConstants.PERFORMANCE})
+    @Story("Connection Pooling")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify sequential requests reuse one pooled keep-alive connection")
+    public void testConnectionsReusedAcrossClients() {
+        long opened = ApiConnectionPool.getConnectionsOpened();
+        long requests = ApiConnectionPool.getRequestCount();
+
+        for (int i = 0; i < 20; i++) {
+            ApiClient client = new ApiClient(servers.get(0).getBaseUrl());
+            Assert.assertEquals(client.get("/whoami").getStatusCode(), 200);
+        }
+
+        Assert.assertEquals(ApiConnectionPool.getRequestCount() - requests, 20);
+        Assert.assertTrue(ApiConnectionPool.getConnectionsOpened() - opened <= 1,
+                "Expected one connection for 20 sequential requests; " + ApiConnectionPool.getReport());
+        Assert.assertEquals(ApiConnectionPool.getStats().getLeased(), 0, "Connections leaked from the pool");
+        log.info(ApiConnectionPool.getReport());
+    }
+
+    @Test(priority = 5, groups = {FrameworkConstants.API, FrameworkConstants.PERFORMANCE})
+    @Story("Async Fan-out")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify thousands of async requests fan out across hosts and return in order")
+    public void testAsyncFanOutAwaitAll() {
+        List<AsyncApiClient> clients = new ArrayList<>();
+        servers.forEach(server -> clients.add(new AsyncApiClient(server.getBaseUrl())));
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            String tenant = "t" + i;
+            futures.add(clients.get(i % SERVERS).submit(api -> api.withHeader("X-Tenant", tenant).get("/whoami")));
+        }
+        List<Response> responses = AsyncApiClient.awaitAll(futures, Duration.ofSeconds(60));
+
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            String mismatch = verify(responses.get(i), i % SERVERS, "t" + i);
+            if (mismatch != null) {
+                mismatches.add(mismatch);
+            }
+        }
+        log.info("{} async requests completed in {} ms; {}", FAN_OUT, (System.nanoTime() - start) / 1_000_000,
+                ApiConnectionPool.getReport());
+        Assert.assertTrue(mismatches.isEmpty(), "Responses out of order or crossed: " + mismatches);
+    }
+
+    @Test(priority = 6, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Async Fan-out")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the first successful response is returned without waiting for slow requests")
+    public void testAsyncFirstSuccess() {
+        AsyncApiClient async = new AsyncApiClient(servers.get(1).getBaseUrl());
+        List<CompletableFuture<Response>> futures = List.of(async.get("/slow"), async.get("/slow"),
+                async.get("/whoami"));
+
+        long start = System.nanoTime();
+        Response first = AsyncApiClient.awaitFirstSuccess(futures);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(first.jsonPath().getString("server"), "1");
+        Assert.assertNotNull(first.jsonPath().getString("tenant"), "Expected the fast /whoami response");
+        Assert.assertTrue(elapsedMillis < SLOW_MILLIS, "Waited " + elapsedMillis + " ms for slow requests");
+        Assert.assertTrue(futures.get(0).isCancelled() && futures.get(1).isCancelled(),
+                "Slow requests should be cancelled");
+    }
+
+    @Test(priority = 7, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Async Fan-out")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a fan-out that misses its deadline fails fast and cancels the stragglers")
+    public void testAsyncAwaitAllDeadline() {
+        AsyncApiClient async = new AsyncApiClient(servers.get(2).getBaseUrl());
+        List<CompletableFuture<Response>> futures = List.of(async.get("/whoami"), async.get("/slow"));
+
+        long start = System.nanoTime();
+        Assert.assertThrows(FrameworkException.class, () -> AsyncApiClient.awaitAll(futures, Duration.ofMillis(500)));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(elapsedMillis < SLOW_MILLIS, "Deadline not enforced: waited " + elapsedMillis + " ms");
+        Assert.assertTrue(futures.get(1).isCancelled(), "Request past the deadline should be cancelled");
+    }
+
+    @Test(priority = 8, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Async Fan-out")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify cancelling a request in progress does not send it again")
+    public void testCancelledRequestNotRetried() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(1);
+        try (StubServer server = new StubServer().stub("/slow", exchange -> {
+            arrived.countDown();
+            Thread.sleep(SLOW_MILLIS);
+            StubServer.respond(exchange, 200, "{}");
+        })) {
+            CompletableFuture<Response> future = new AsyncApiClient(server.getBaseUrl()).get("/slow");
+            Assert.assertTrue(arrived.await(5, TimeUnit.SECONDS), "Expected the request to reach the server");
+
+            future.cancel(true);
+            Thread.sleep(500);
+
+            Assert.assertEquals(server.getRequestCount(), 1, "Cancelled request was sent again");
+        }
+    }
+
+    private Queue<String> runConcurrently(ClientCall call) throws Exception {
+        Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        String mismatch = call.run(thread, i);
+                        if (mismatch != null) {
+                            mismatches.add(mismatch);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("{} threads x {} requests completed with {} mismatch(es)", THREADS, REQUESTS_PER_THREAD,
+                mismatches.size());
+        return mismatches;
+    }
+
+    private static String verify(Response response, int server, String tenant) {
+        String actualServer = response.jsonPath().getString("server");
+        String actualTenant = response.jsonPath().getString("tenant");
+        if (response.getStatusCode() != 200 || !String.valueOf(server).equals(actualServer)
+                || !tenant.equals(actualTenant)) {
+            return String.format("expected server %d/%s but got %s/%s", server, tenant, actualServer, actualTenant);
+        }
+        return null;
+    }
+
+    private int totalRequests() {
+        return servers.stream().mapToInt(StubServer::getRequestCount).sum();
+    }
+
+    /**
+     * One request made by a worker thread; returns a description of any mismatch, or null
+     */
+    @FunctionalInterface
+    private interface ClientCall {
+        String run(int thread, int iteration);
+    }
+}
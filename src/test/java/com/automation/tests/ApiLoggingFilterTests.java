@@ -0,0 +1,127 @@
+package com.automation.tests;
+
+import com.automation.api.ApiLoggingFilter;
+import com.automation.api.ApiUtils;
+import com.automation.constants.FrameworkConstants;
+import com.automation.enums.ApiLogMode;
+import com.automation.stubs.LogCapture;
+import com.automation.stubs.StubServer;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * API Logging Filter Tests - Which exchanges are written in each api.log.mode, and how much of them
+ */
+@Epic("API Testing")
+@Feature("API Logging")
+public class ApiLoggingFilterTests {
+
+    private static final String LONG_BODY = "x".repeat(50);
+
+    private StubServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = new StubServer()
+                .stub("/ok", 200, "{\"status\":\"ok\"}")
+                .stub("/error", 500, "{\"error\":\"database unavailable\"}")
+                .stub("/long", 200, "text/plain", LONG_BODY);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test(priority = 1, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("On Failure")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a passing exchange writes nothing in on_failure mode")
+    public void testPassingExchangeNotLogged() {
+        ApiLoggingFilter filter = ApiLoggingFilter.create(ApiLogMode.ON_FAILURE, 1, 4096);
+        try (LogCapture capture = new LogCapture(ApiLoggingFilter.class)) {
+            Response response = send(filter).get("/ok");
+            ApiUtils.assertStatusCode(response, 200);
+
+            Assert.assertEquals(capture.getMessages(), List.of());
+        }
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("On Failure")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a failing assertion writes the request and response behind it, with credentials masked")
+    public void testFailedAssertionLogsExchange() {
+        ApiLoggingFilter filter = ApiLoggingFilter.create(ApiLogMode.ON_FAILURE, 1, 4096);
+        try (LogCapture capture = new LogCapture(ApiLoggingFilter.class)) {
+            Response response = send(filter)
+                    .header("Authorization", "Bearer secret-token")
+                    .body("{\"user\":\"alice\"}")
+                    .post("/error");
+
+            Assert.assertThrows(AssertionError.class, () -> ApiUtils.assertStatusCode(response, 200));
+
+            List<String> messages = capture.getMessages();
+            Assert.assertEquals(messages.size(), 1, String.valueOf(messages));
+            String exchange = messages.get(0);
+            Assert.assertTrue(exchange.contains("Request: POST " + server.getBaseUrl() + "/error"), exchange);
+            Assert.assertTrue(exchange.contains("Body: {\"user\":\"alice\"}"), exchange);
+            Assert.assertTrue(exchange.contains("Authorization: ***"), exchange);
+            Assert.assertFalse(exchange.contains("secret-token"), exchange);
+            Assert.assertTrue(exchange.contains("Response: HTTP/1.1 500"), exchange);
+            Assert.assertTrue(exchange.contains("Body: {\"error\":\"database unavailable\"}"), exchange);
+        }
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Sampling")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify sampled mode writes the first exchange and then one in every sample rate")
+    public void testSampledModeHonoursRate() {
+        ApiLoggingFilter filter = ApiLoggingFilter.create(ApiLogMode.SAMPLED, 3, 4096);
+        try (LogCapture capture = new LogCapture(ApiLoggingFilter.class)) {
+            for (int i = 0; i < 7; i++) {
+                send(filter).queryParam("n", i).get("/ok");
+            }
+
+            List<String> messages = capture.getMessages();
+            Assert.assertEquals(messages.size(), 3, String.valueOf(messages));
+            Assert.assertTrue(messages.get(0).contains("/ok?n=0"), messages.get(0));
+            Assert.assertTrue(messages.get(1).contains("/ok?n=3"), messages.get(1));
+            Assert.assertTrue(messages.get(2).contains("/ok?n=6"), messages.get(2));
+        }
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.API, FrameworkConstants.REGRESSION})
+    @Story("Body Limit")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify bodies are cut at the configured maximum and the rest is counted")
+    public void testBodyTruncatedAtLimit() {
+        ApiLoggingFilter filter = ApiLoggingFilter.create(ApiLogMode.ALL, 1, 10);
+        try (LogCapture capture = new LogCapture(ApiLoggingFilter.class)) {
+            send(filter).body("{\"comment\":\"" + "y".repeat(30) + "\"}").post("/long");
+
+            List<String> messages = capture.getMessages();
+            Assert.assertEquals(messages.size(), 1, String.valueOf(messages));
+            String exchange = messages.get(0);
+            Assert.assertTrue(exchange.contains("Body: {\"comment\"... (34 more chars)"), exchange);
+            Assert.assertTrue(exchange.contains("Body: " + "x".repeat(10) + "... (40 more chars)"), exchange);
+            Assert.assertFalse(exchange.contains("x".repeat(11)), exchange);
+        }
+    }
+
+    private RequestSpecification send(ApiLoggingFilter filter) {
+        return RestAssured.given().baseUri(server.getBaseUrl()).contentType(ContentType.JSON).filter(filter);
+    }
+}
@@ -0,0 +1,133 @@
+package com.automation.tests;
+
+import com.automation.constants.FrameworkConstants;
+import com.automation.driver.GridEndpointSelector;
+import com.automation.driver.GridEndpointSelector.GridEndpoint;
+import com.automation.stubs.StubServer;
+import io.qameta.allure.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grid Endpoint Selector Tests - Endpoint ranking against local stand-in grid status servers
+ */
+@Epic("Framework")
+@Feature("Grid Sharding")
+public class GridEndpointSelectorTests {
+
+    private static final Logger log = LoggerFactory.getLogger(GridEndpointSelectorTests.class);
+
+    private final List<StubServer> servers = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServers() {
+        servers.forEach(StubServer::close);
+        servers.clear();
+    }
+
+    @Test(priority = 1, groups = {FrameworkConstants.REGRESSION})
+    @Story("Load Balancing")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the least-loaded hub is ranked first")
+    public void testLeastLoadedEndpointRankedFirst() {
+        StubServer busy = hub(true, 4, 3, 2);
+        StubServer idle = hub(true, 4, 1, 0);
+
+        GridEndpointSelector selector = new GridEndpointSelector(
+                List.of(busy.getBaseUrl() + "/wd/hub", idle.getBaseUrl() + "/wd/hub"), 0, 30000);
+        List<GridEndpoint> ranked = selector.rank();
+
+        Assert.assertEquals(ranked.get(0).getUrl().toString(), idle.getBaseUrl() + "/wd/hub");
+        Assert.assertEquals(ranked.get(0).getActiveSessions(), 1);
+        Assert.assertEquals(ranked.get(1).getQueuedSessions(), 2);
+        log.info("Ranked endpoints: {}", ranked);
+    }
+
+    @Test(priority = 2, groups = {FrameworkConstants.REGRESSION})
+    @Story("Load Balancing")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify hubs that are not ready or unreachable are ranked last")
+    public void testUnavailableEndpointsRankedLast() {
+        StubServer notReady = hub(false, 4, 0, 0);
+        StubServer loaded = hub(true, 2, 2, 5);
+        String unreachable = "http://127.0.0.1:1/wd/hub";
+
+        GridEndpointSelector selector = new GridEndpointSelector(
+                List.of(notReady.getBaseUrl() + "/wd/hub", unreachable, loaded.getBaseUrl() + "/wd/hub"), 0, 30000);
+        List<GridEndpoint> ranked = selector.rank();
+
+        Assert.assertEquals(ranked.get(0).getUrl().toString(), loaded.getBaseUrl() + "/wd/hub");
+        Assert.assertTrue(ranked.get(0).isAvailable());
+        Assert.assertFalse(ranked.get(1).isAvailable());
+        Assert.assertFalse(ranked.get(2).isAvailable());
+    }
+
+    @Test(priority = 3, groups = {FrameworkConstants.REGRESSION})
+    @Story("Failover")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a hub that refused a session is skipped during its cooldown")
+    public void testMarkDownMovesEndpointBehindOthers() {
+        StubServer first = hub(true, 4, 0, 0);
+        StubServer second = hub(true, 4, 2, 0);
+
+        GridEndpointSelector selector = new GridEndpointSelector(
+                List.of(first.getBaseUrl(), second.getBaseUrl()), 60000, 30000);
+        GridEndpoint best = selector.rank().get(0);
+        Assert.assertEquals(best.getUrl().toString(), first.getBaseUrl());
+
+        selector.markDown(best);
+        List<GridEndpoint> ranked = selector.rank();
+
+        Assert.assertEquals(ranked.get(0).getUrl().toString(), second.getBaseUrl());
+        Assert.assertFalse(ranked.get(1).isAvailable());
+    }
+
+    @Test(priority = 4, groups = {FrameworkConstants.REGRESSION})
+    @Story("Load Balancing")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify sessions placed between status refreshes count towards a hub's load")
+    public void testPlacementCountsTowardsCachedLoad() {
+        StubServer first = hub(true, 4, 0, 0);
+        StubServer second = hub(true, 4, 1, 0);
+
+        GridEndpointSelector selector = new GridEndpointSelector(
+                List.of(first.getBaseUrl(), second.getBaseUrl()), 60000, 30000);
+        GridEndpoint best = selector.rank().get(0);
+        Assert.assertEquals(best.getUrl().toString(), first.getBaseUrl());
+
+        selector.recordPlacement(best);
+        selector.recordPlacement(best);
+        List<GridEndpoint> ranked = selector.rank();
+
+        Assert.assertEquals(ranked.get(0).getUrl().toString(), second.getBaseUrl());
+        Assert.assertEquals(ranked.get(1).getActiveSessions(), 2);
+    }
+
+    /**
+     * Starts a stand-in hub exposing Selenium Grid 4 style /status and /graphql responses.
+     */
+    private StubServer hub(boolean ready, int slots, int activeSessions, int queued) {
+        StringBuilder slotJson = new StringBuilder();
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) {
+                slotJson.append(',');
+            }
+            slotJson.append(i < activeSessions ? "{\"session\":{\"sessionId\":\"s" + i + "\"}}" : "{\"session\":null}");
+        }
+        String status = "{\"value\":{\"ready\":" + ready + ",\"nodes\":[{\"availability\":\"UP\",\"slots\":["
+                + slotJson + "]}]}}";
+        String queue = "{\"data\":{\"grid\":{\"sessionQueueSize\":" + queued + "}}}";
+
+        StubServer server = new StubServer()
+                .stub("/status", 200, status)
+                .stub("/graphql", 200, queue);
+        servers.add(server);
+        return server;
+    }
+}
@@ -54,7 +54,7 @@ public class LoginTests extends BaseTest {
                 .enterPassword("wrongpassword")
                 .clickLoginButton();
 
-        Assert.assertTrue(loginPage.isErrorMessageDisplayed(), "Error message should be displayed");
+        Assert.assertTrue(loginPage.isLoginRejected(), "Login should be rejected with an error message");
         log.info("Invalid login test completed successfully");
     }
 
@@ -68,7 +68,7 @@ public class LoginTests extends BaseTest {
                 .enterPassword("")
                 .clickLoginButton();
 
-        Assert.assertTrue(loginPage.isErrorMessageDisplayed(), "Error message should be displayed");
+        Assert.assertTrue(loginPage.isLoginRejected(), "Login should be rejected with an error message");
         log.info("Empty credentials test completed successfully");
     }
 
@@ -90,7 +90,7 @@ public class LoginTests extends BaseTest {
             HomePage homePage = new HomePage();
             Assert.assertTrue(homePage.isUserLoggedIn(), "User should be logged in");
         } else {
-            Assert.assertTrue(loginPage.isErrorMessageDisplayed(), "Error message should be displayed");
+            Assert.assertTrue(loginPage.isLoginRejected(), "Login should be rejected with an error message");
         }
 
         log.info("Data driven login test completed for user: {}", username);
@@ -2,20 +2,24 @@ package com.automation.tests;
 
 import com.automation.api.ApiClient;
 import com.automation.api.ApiUtils;
+import com.automation.api.AsyncApiClient;
+import com.automation.api.LoadEngine;
 import com.automation.constants.FrameworkConstants;
+import com.automation.stubs.StubServer;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Performance Tests - Basic performance and load tests
@@ -27,10 +31,32 @@ public class PerformanceTests {
     private static final Logger log = LoggerFactory.getLogger(PerformanceTests.class);
 
     private ApiClient apiClient;
+    private StubServer stubServer;
 
     @BeforeClass
     public void setUp() {
         apiClient = new ApiClient("https://jsonplaceholder.typicode.com");
+
+        AtomicInteger flakyCalls = new AtomicInteger();
+        stubServer = new StubServer()
+                .stub("/users", 200, "[{\"id\":1,\"name\":\"Leanne Graham\"}]")
+                .stub("/flaky", exchange -> StubServer.respond(exchange,
+                        flakyCalls.incrementAndGet() % 4 == 0 ? 503 : 200, "{}"))
+                .stub("/slow", exchange -> {
+                    Thread.sleep(200);
+                    StubServer.respond(exchange, 200, "{}");
+                })
+                .stub("/stalled", exchange -> {
+                    Thread.sleep(3000);
+                    StubServer.respond(exchange, 200, "{}");
+                });
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
     }
 
     @Test(priority = 1, groups = {FrameworkConstants.PERFORMANCE})
@@ -57,29 +83,23 @@ public class PerformanceTests {
     @Story("Concurrent Requests")
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify API handles concurrent requests")
-    public void testConcurrentRequests() throws Exception {
+    public void testConcurrentRequests() {
         int concurrentUsers = 5;
-        ExecutorService executor = Executors.newFixedThreadPool(concurrentUsers);
-        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        AsyncApiClient async = new AsyncApiClient(apiClient);
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
 
         for (int i = 0; i < concurrentUsers; i++) {
-            CompletableFuture<Long> future = CompletableFuture.supplyAsync(() -> {
-                ApiClient client = new ApiClient("https://jsonplaceholder.typicode.com");
-                Response response = client.get("/users");
-                return response.getTime();
-            }, executor);
-            futures.add(future);
+            futures.add(async.get("/users"));
         }
 
         long totalTime = 0;
-        for (CompletableFuture<Long> future : futures) {
-            totalTime += future.get();
+        for (Response response : AsyncApiClient.awaitAll(futures)) {
+            totalTime += response.getTime();
         }
 
         long avgTime = totalTime / concurrentUsers;
         log.info("Average response time for {} concurrent users: {}ms", concurrentUsers, avgTime);
 
-        executor.shutdown();
         Assert.assertTrue(avgTime < 5000, "Average response time should be less than 5 seconds under concurrent load");
     }
 
@@ -95,4 +115,68 @@ public class PerformanceTests {
 
         Assert.assertTrue(contentLength < 50000, "Response payload should be less than 50KB");
     }
+
+    @Test(priority = 4, groups = {FrameworkConstants.PERFORMANCE})
+    @Story("Open-model Load")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the load engine sends the scheduled arrivals and reports throughput and percentiles")
+    public void testOpenModelLoadAgainstStub() {
+        LoadEngine engine = new LoadEngine(new ApiClient(stubServer.getBaseUrl()), api -> api.get("/users"));
+
+        LoadEngine.LoadReport report = engine.run(30, Duration.ofSeconds(1), Duration.ofSeconds(3),
+                Duration.ofSeconds(1));
+
+        Assert.assertEquals(report.getRequests(), 120, "Arrivals for 1s ramp-up, 3s steady, 1s ramp-down at 30/s");
+        Assert.assertEquals(report.getErrors(), 0, report.toString());
+        Assert.assertTrue(report.getThroughput() > 0, report.toString());
+        Assert.assertTrue(report.getLatencyMillis(0.50) <= report.getLatencyMillis(0.99), report.toString());
+        Assert.assertTrue(report.getLatencyMillis(LoadEngine.Phase.STEADY, 0.50) > 0, report.toString());
+        Assert.assertTrue(report.getServiceTimeMillis(0.99) <= report.getLatencyMillis(1.0), report.toString());
+    }
+
+    @Test(priority = 5, groups = {FrameworkConstants.PERFORMANCE})
+    @Story("Open-model Load")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Verify the load engine counts failed responses in the error rate")
+    public void testOpenModelLoadErrorRate() {
+        LoadEngine engine = new LoadEngine(new ApiClient(stubServer.getBaseUrl()), api -> api.get("/flaky"));
+
+        LoadEngine.LoadReport report = engine.run(20, Duration.ZERO, Duration.ofSeconds(2), Duration.ZERO);
+
+        Assert.assertEquals(report.getRequests(), 40);
+        Assert.assertEquals(report.getErrors(), 10, report.toString());
+        Assert.assertEquals(report.getErrorRate(), 0.25, 0.001);
+    }
+
+    @Test(priority = 6, groups = {FrameworkConstants.PERFORMANCE})
+    @Story("Open-model Load")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Verify requests that never answer count as errors and in the latency percentiles")
+    public void testOpenModelLoadCountsUnansweredRequests() {
+        LoadEngine engine = new LoadEngine(new ApiClient(stubServer.getBaseUrl()), api -> api.get("/stalled"))
+                .withDrain(Duration.ofSeconds(1));
+
+        LoadEngine.LoadReport report = engine.run(10, Duration.ZERO, Duration.ofSeconds(1), Duration.ZERO);
+
+        Assert.assertEquals(report.getRequests(), 10);
+        Assert.assertEquals(report.getErrors(), 10, report.toString());
+        Assert.assertEquals(report.getCancelled(), 10, report.toString());
+        Assert.assertTrue(report.getLatencyMillis(0.50) >= 900,
+                "Expected unanswered requests to count up to the drain deadline: " + report);
+    }
+
+    @Test(priority = 7, groups = {FrameworkConstants.PERFORMANCE})
+    @Story("Open-model Load")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Verify arrivals beyond the per-route connection limit are reported as queued in the client")
+    public void testOpenModelLoadReportsClientQueue() {
+        LoadEngine engine = new LoadEngine(new ApiClient(stubServer.getBaseUrl()), api -> api.get("/slow"));
+
+        // 100/s for 200 ms each needs 20 connections, more than the 16 allowed per route
+        LoadEngine.LoadReport report = engine.run(100, Duration.ZERO, Duration.ofSeconds(2), Duration.ZERO);
+
+        Assert.assertEquals(report.getErrors(), 0, report.toString());
+        Assert.assertTrue(report.getQueuedMillis(0.90) > report.getServiceTimeMillis(0.90), report.toString());
+        Assert.assertTrue(report.toString().contains("queued"), report.toString());
+    }
 }